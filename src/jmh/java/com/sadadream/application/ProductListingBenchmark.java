@@ -0,0 +1,106 @@
+package com.sadadream.application;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sadadream.App;
+import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.dto.ProductListRequestData;
+import com.sadadream.dto.ProductPageData;
+
+/**
+ * 상품 100 개를 조회할 때 읽기 쓰기 트랜잭션(readOnly=false, 이전 방식)과
+ * 읽기 전용 트랜잭션의 호출당 할당량을 비교한다. gc.alloc.rate.norm 을 보면 된다.
+ * listProducts 는 GET /products 의 서비스 호출이고, loadProducts 는 엔티티로 목록을 읽는 경우다.
+ *
+ * <pre>./gradlew jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductListingBenchmark {
+    private static final int PRODUCT_COUNT = 100;
+
+    @Param({"false", "true"})
+    private boolean readOnly;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductRepository productRepository;
+    private TransactionTemplate transactionTemplate;
+    private ProductListRequestData listRequest;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(App.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.profiles.active=benchmark",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.initialization-mode=never",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--jwt.secret=12345678901234567890123456789012",
+                "--logging.level.root=warn");
+
+        productService = context.getBean(ProductService.class);
+        productRepository = context.getBean(ProductRepository.class);
+
+        List<Product> products = IntStream.range(0, PRODUCT_COUNT)
+            .mapToObj(i -> Product.builder()
+                .brand("나이키")
+                .name("에어맥스 " + i)
+                .price(109000L + i)
+                .currency("KRW")
+                .imageLink(List.of("https://abc" + i + ".jpg", "https://def" + i + ".jpg"))
+                .description("운동화")
+                .category("신발")
+                .build())
+            .collect(Collectors.toList());
+        productRepository.saveAll(products);
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(readOnly);
+
+        listRequest = ProductListRequestData.builder()
+            .limit(PRODUCT_COUNT)
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductPageData listProducts() {
+        return transactionTemplate.execute(status -> productService.getProducts(listRequest));
+    }
+
+    @Benchmark
+    public List<Product> loadProducts() {
+        return transactionTemplate.execute(status -> productRepository.findAllByIdGreaterThanOrderByIdAsc(
+            0L, PageRequest.of(0, PRODUCT_COUNT)));
+    }
+}
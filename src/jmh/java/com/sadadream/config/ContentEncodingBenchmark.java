@@ -0,0 +1,87 @@
+package com.sadadream.config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.sadadream.dto.ProductFields;
+import com.sadadream.dto.ProductPageData;
+import com.sadadream.dto.ProductSummaryData;
+
+/**
+ * 상품 1,000 개짜리 목록 페이지를 JSON, CBOR, Smile 로 인코딩하는 시간과 크기를 비교한다.
+ * 변환기는 애플리케이션과 같은 설정(SNAKE_CASE)으로 만든다.
+ *
+ * <pre>./gradlew jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentEncodingBenchmark {
+    private static final int PRODUCT_COUNT = 1_000;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ProductPageData page;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        writer = converter().getObjectMapper().writer(ProductFields.filterOf(null));
+
+        List<ProductSummaryData> products = LongStream.rangeClosed(1, PRODUCT_COUNT)
+            .mapToObj(id -> ProductSummaryData.builder()
+                .id(id)
+                .brand("나이키")
+                .name("에어맥스 " + id)
+                .price(109000L + id)
+                .currency("KRW")
+                .thumbnail("https://cdn.example.com/products/" + id + "/thumbnail.jpg")
+                .category("신발")
+                .build())
+            .collect(Collectors.toList());
+        page = ProductPageData.builder()
+            .products(products)
+            .nextCursor("MTAwMA")
+            .build();
+    }
+
+    @Benchmark
+    public byte[] encode() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    private AbstractJackson2HttpMessageConverter converter() {
+        MessageConverterConfiguration configuration = new MessageConverterConfiguration();
+        switch (format) {
+            case "cbor":
+                return configuration.cborHttpMessageConverter(builder());
+            case "smile":
+                return configuration.smileHttpMessageConverter(builder());
+            default:
+                return new MappingJackson2HttpMessageConverter(builder().build());
+        }
+    }
+
+    private Jackson2ObjectMapperBuilder builder() {
+        return new Jackson2ObjectMapperBuilder()
+            .propertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+    }
+}
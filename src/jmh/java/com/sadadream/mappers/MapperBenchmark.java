@@ -0,0 +1,125 @@
+package com.sadadream.mappers;
+
+import static com.github.dozermapper.core.loader.api.TypeMappingOptions.oneWay;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+import com.github.dozermapper.core.loader.api.TypeMappingBuilder;
+import com.sadadream.domain.Product;
+import com.sadadream.domain.User;
+import com.sadadream.dto.Gender;
+import com.sadadream.dto.ProductData;
+import com.sadadream.dto.UserModificationData;
+import com.sadadream.dto.UserRegistrationData;
+
+/**
+ * Dozer 와 생성된 매퍼의 호출당 지연 시간과 할당량을 비교한다.
+ * Dozer 매핑은 예전 DTO 의 @Mapping 필드 매핑과 같도록 필드 접근으로 구성한다.
+ *
+ * <pre>./gradlew jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+    private Mapper dozerMapper;
+    private ProductMapper productMapper;
+    private UserMapper userMapper;
+
+    private ProductData productData;
+    private UserRegistrationData registrationData;
+    private UserModificationData modificationData;
+
+    @Setup
+    public void setUp() {
+        dozerMapper = DozerBeanMapperBuilder.create()
+            .withMappingBuilder(new BeanMappingBuilder() {
+                @Override
+                protected void configure() {
+                    fields(mapping(ProductData.class, Product.class, oneWay()),
+                        "brand", "name", "price", "currency", "imageLink", "description", "category");
+                    fields(mapping(UserRegistrationData.class, User.class, oneWay()),
+                        "email", "name", "password", "phoneNumber", "address", "gender", "birthDate");
+                    fields(mapping(UserModificationData.class, User.class, oneWay()),
+                        "name", "address", "gender");
+                }
+
+                private void fields(TypeMappingBuilder mapping, String... names) {
+                    for (String name : names) {
+                        mapping.fields(field(name).accessible(), field(name).accessible());
+                    }
+                }
+            })
+            .build();
+        productMapper = Mappers.getMapper(ProductMapper.class);
+        userMapper = Mappers.getMapper(UserMapper.class);
+
+        productData = ProductData.builder()
+            .brand("나이키")
+            .name("에어맥스")
+            .price(109000L)
+            .currency("KRW")
+            .imageLink(List.of("https://abc.jpg", "https://def.jpg"))
+            .description("운동화")
+            .category("신발")
+            .build();
+        registrationData = UserRegistrationData.builder()
+            .email("tester@example.com")
+            .name("tester")
+            .password("password")
+            .phoneNumber("010-1234-5678")
+            .address("서울")
+            .gender(Gender.F)
+            .birthDate(LocalDate.of(2000, 1, 1))
+            .build();
+        modificationData = UserModificationData.builder()
+            .name("tester")
+            .address("서울")
+            .gender(Gender.M)
+            .build();
+    }
+
+    @Benchmark
+    public Product dozerProduct() {
+        return dozerMapper.map(productData, Product.class);
+    }
+
+    @Benchmark
+    public Product mapStructProduct() {
+        return productMapper.toProduct(productData);
+    }
+
+    @Benchmark
+    public User dozerUserRegistration() {
+        return dozerMapper.map(registrationData, User.class);
+    }
+
+    @Benchmark
+    public User mapStructUserRegistration() {
+        return userMapper.toUser(registrationData);
+    }
+
+    @Benchmark
+    public User dozerUserModification() {
+        return dozerMapper.map(modificationData, User.class);
+    }
+
+    @Benchmark
+    public User mapStructUserModification() {
+        return userMapper.toUser(modificationData);
+    }
+}
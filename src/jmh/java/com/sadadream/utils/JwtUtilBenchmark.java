@@ -0,0 +1,66 @@
+package com.sadadream.utils;
+
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 여러 스레드에서 세션 토큰 1000 개를 반복해서 해석할 때의 처리량을 비교한다.
+ * legacyDecode 는 요청마다 파서를 만들고 서명을 검증하던 이전 방식이다.
+ *
+ * <pre>./gradlew jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class JwtUtilBenchmark {
+    private static final String SECRET = "12345678901234567890123456789012";
+
+    private Key key;
+    private JwtUtil jwtUtil;
+    private List<String> tokens;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtUtil = new JwtUtil(SECRET);
+        tokens = LongStream.range(0, 1000)
+            .mapToObj(userId -> jwtUtil.encode(userId, List.of("USER"), jwtUtil.newSessionId()))
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Claims legacyDecode() {
+        return Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build()
+            .parseClaimsJws(nextToken())
+            .getBody();
+    }
+
+    @Benchmark
+    public Claims decode() {
+        return jwtUtil.decode(nextToken());
+    }
+
+    private String nextToken() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+}
@@ -1,18 +1,25 @@
 package com.sadadream;
 
+import java.time.Duration;
 import java.util.TimeZone;
 
 import javax.annotation.PostConstruct;
 
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import com.github.dozermapper.core.DozerBeanMapperBuilder;
-import com.github.dozermapper.core.Mapper;
+import com.sadadream.mappers.ProductMapper;
+import com.sadadream.mappers.UserMapper;
+import com.sadadream.security.AdaptiveBCryptPasswordEncoder;
+import com.sadadream.security.TimedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @EnableJpaAuditing
 @SpringBootApplication
@@ -28,12 +35,33 @@ public class App {
     }
 
     @Bean
-    public Mapper dozerMapper() {
-        return DozerBeanMapperBuilder.buildDefault();
+    public ProductMapper productMapper() {
+        return Mappers.getMapper(ProductMapper.class);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public UserMapper userMapper() {
+        return Mappers.getMapper(UserMapper.class);
+    }
+
+    /**
+     * password-hashing.strength 를 지정하면 그 비용을 쓰고, 지정하지 않으면 장비에 맞춰 비용을 고른다.
+     * 지표를 모으고 있으면 해시 계산 시간을 기록하도록 감싼다.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+        @Value("${password-hashing.strength:0}") int strength,
+        @Value("${password-hashing.target-latency-ms:100}") long targetLatencyMillis,
+        @Value("${password-hashing.min-strength:10}") int minStrength,
+        @Value("${password-hashing.max-strength:14}") int maxStrength,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        PasswordEncoder passwordEncoder = strength > 0
+            ? new AdaptiveBCryptPasswordEncoder(strength)
+            : AdaptiveBCryptPasswordEncoder.calibrate(
+                Duration.ofMillis(targetLatencyMillis), minStrength, maxStrength);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return registry == null ? passwordEncoder : new TimedPasswordEncoder(passwordEncoder, registry);
     }
 }
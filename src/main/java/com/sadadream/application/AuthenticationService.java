@@ -1,15 +1,23 @@
 package com.sadadream.application;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sadadream.domain.Role;
 import com.sadadream.domain.RoleRepository;
 import com.sadadream.domain.User;
 import com.sadadream.domain.UserRepository;
+import com.sadadream.dto.SessionResponseData;
+import com.sadadream.errors.InvalidTokenException;
 import com.sadadream.errors.LoginFailException;
+import com.sadadream.infra.ReplicaRoutingDataSource;
+import com.sadadream.security.PasswordHashingExecutor;
+import com.sadadream.security.UserAuthentication;
 import com.sadadream.utils.JwtUtil;
 
 import io.jsonwebtoken.Claims;
@@ -20,35 +28,132 @@ public class AuthenticationService {
     private final RoleRepository roleRepository;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     public AuthenticationService(UserRepository userRepository,
         RoleRepository roleRepository,
         JwtUtil jwtUtil,
-        PasswordEncoder passwordEncoder
+        PasswordEncoder passwordEncoder,
+        TokenRevocationService tokenRevocationService,
+        PasswordHashingExecutor passwordHashingExecutor
     ) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationService = tokenRevocationService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
-    public String login(String email, String password) {
-        User user = userRepository.findByEmail(email)
+    /**
+     * 비밀번호 검증과 재해시만 해시 스레드에서 실행하고, 조회와 저장은 호출한 스레드에서 한다.
+     * 가입 직후 로그인해도 사용자를 찾을 수 있도록 복제본이 아니라 주 데이터베이스에서 읽는다.
+     */
+    public SessionResponseData login(String email, String password) {
+        User user = ReplicaRoutingDataSource.readFromPrimary(() -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new LoginFailException(email));
 
-        if (!user.authenticate(password, passwordEncoder)) {
+        if (!passwordHashingExecutor.call(() -> user.authenticate(password, passwordEncoder))) {
             throw new LoginFailException(email);
         }
 
-        return jwtUtil.encode(user.getId());
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            passwordHashingExecutor.call(() -> {
+                user.changePassword(password, passwordEncoder);
+                return user;
+            });
+            userRepository.save(user);
+        }
+
+        return issueTokens(user.getId(), jwtUtil.newSessionId());
     }
 
-    public Long parseToken(String accessToken) {
-        Claims claims = jwtUtil.decode(accessToken);
-        return claims.get("userId", Long.class);
+    /**
+     * 리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급한다.
+     * 사용한 리프레시 토큰의 세션은 폐기하므로 같은 리프레시 토큰은 한 번만 쓸 수 있다.
+     * 같은 토큰으로 동시에 갱신하면 세션 폐기의 유일 인덱스 위반으로 하나만 성공한다.
+     */
+    @Transactional
+    public SessionResponseData refresh(String refreshToken) {
+        Claims claims = jwtUtil.decode(refreshToken);
+        Long userId = claims.get("userId", Long.class);
+        String sessionId = claims.get(JwtUtil.SESSION_ID, String.class);
+
+        if (!JwtUtil.REFRESH_TOKEN_TYPE.equals(claims.get(JwtUtil.TOKEN_TYPE, String.class))
+            || sessionId == null
+            || tokenRevocationService.isSessionRevoked(sessionId)) {
+            throw new InvalidTokenException(refreshToken);
+        }
+
+        userRepository.findByIdAndDeletedIsFalse(userId)
+            .orElseThrow(() -> new InvalidTokenException(refreshToken));
+
+        tokenRevocationService.revokeSession(sessionId);
+
+        return issueTokens(userId, jwtUtil.newSessionId());
+    }
+
+    /**
+     * 인증된 세션을 폐기한다. 같은 세션의 리프레시 토큰도 더 이상 쓸 수 없다.
+     */
+    public void logout(String sessionId) {
+        tokenRevocationService.revokeSession(sessionId);
+    }
+
+    /**
+     * 토큰에 담긴 권한으로 인증 정보를 만든다. 폐기 여부는 메모리에서만 확인하므로 저장소를 조회하지 않는다.
+     */
+    public UserAuthentication authenticate(String accessToken) {
+        Claims claims = verify(accessToken);
+        Long userId = claims.get("userId", Long.class);
+        String sessionId = claims.get(JwtUtil.SESSION_ID, String.class);
+
+        String roles = claims.get("roles", String.class);
+        if (roles == null) {
+            throw new InvalidTokenException(accessToken);
+        }
+
+        return new UserAuthentication(userId, sessionId, Arrays.stream(roles.split(","))
+            .filter(role -> !role.isEmpty())
+            .map(Role::new)
+            .collect(Collectors.toList()));
     }
 
+    /**
+     * 토큰에 담을 권한이므로, 가입 직후에도 빠지지 않게 주 데이터베이스에서 읽는다.
+     */
     public List<Role> roles(Long userId) {
-        return roleRepository.findAllByUserId(userId);
+        return ReplicaRoutingDataSource.readFromPrimary(() -> roleRepository.findAllByUserId(userId));
+    }
+
+    /**
+     * 만료 시각이 없는 토큰, 리프레시 토큰, 폐기된 세션이나 사용자의 토큰은 액세스 토큰으로 쓸 수 없다.
+     */
+    private Claims verify(String accessToken) {
+        Claims claims = jwtUtil.decode(accessToken);
+        Long userId = claims.get("userId", Long.class);
+        String sessionId = claims.get(JwtUtil.SESSION_ID, String.class);
+
+        if (claims.getExpiration() == null
+            || claims.get(JwtUtil.TOKEN_TYPE) != null
+            || sessionId == null
+            || tokenRevocationService.isSessionRevoked(sessionId)
+            || tokenRevocationService.isUserRevoked(userId)) {
+            throw new InvalidTokenException(accessToken);
+        }
+
+        return claims;
+    }
+
+    private SessionResponseData issueTokens(Long userId, String sessionId) {
+        List<String> roles = roles(userId).stream()
+            .map(Role::getRole)
+            .collect(Collectors.toList());
+
+        return SessionResponseData.builder()
+            .accessToken(jwtUtil.encode(userId, roles, sessionId))
+            .refreshToken(jwtUtil.encodeRefreshToken(userId, sessionId))
+            .build();
     }
 }
@@ -0,0 +1,30 @@
+package com.sadadream.application;
+
+import java.util.regex.Pattern;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 무결성 위반 예외가 어떤 제약 조건을 어겨서 발생했는지 확인한다.
+ * PostgreSQL 은 제약 조건 이름만, H2 는 이름이 들어간 오류 메시지 전체를 돌려주므로 이름을 단어 단위로 찾는다.
+ * H2 가 유일 제약 조건의 인덱스 이름 뒤에 붙이는 _INDEX_n 접미사는 무시한다.
+ */
+final class ConstraintViolations {
+    private ConstraintViolations() {
+    }
+
+    static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        Pattern pattern = Pattern.compile(
+            "(^|[^a-z0-9_])" + Pattern.quote(constraintName) + "(_index_[0-9]+)?([^a-z0-9_]|$)",
+            Pattern.CASE_INSENSITIVE);
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String violated = ((ConstraintViolationException) cause).getConstraintName();
+                return violated != null && pattern.matcher(violated).find();
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sadadream.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품이 생성, 수정, 삭제되었음을 알린다.
+ * 생성이면 before 가, 삭제면 after 가 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+    private final Long productId;
+
+    private final ProductSnapshot before;
+
+    private final ProductSnapshot after;
+}
@@ -0,0 +1,60 @@
+package com.sadadream.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.sadadream.errors.InvalidCursorException;
+
+import lombok.Getter;
+
+/**
+ * 상품 목록의 keyset 페이지 위치를 나타내는 불투명(opaque) 커서.
+ * 클라이언트는 값을 해석하지 않고 응답의 next_cursor 를 그대로 다음 요청의 after 로 전달한다.
+ * 가격순 정렬에서는 같은 가격의 상품을 구분하기 위해 가격과 아이디를 함께 담는다.
+ */
+@Getter
+public class ProductCursor {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final ProductCursor FIRST = new ProductCursor(null, 0L);
+
+    private final Long price;
+    private final Long id;
+
+    private ProductCursor(Long price, Long id) {
+        this.price = price;
+        this.id = id;
+    }
+
+    public static String encode(Long id) {
+        return encode(String.valueOf(id));
+    }
+
+    public static String encode(Long price, Long id) {
+        return encode(price + ":" + id);
+    }
+
+    public static ProductCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String value = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            if (separator < 0) {
+                return new ProductCursor(null, Long.parseLong(value));
+            }
+            return new ProductCursor(
+                Long.parseLong(value.substring(0, separator)),
+                Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    private static String encode(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+package com.sadadream.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sadadream.domain.ProductFacetCount;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.dto.ProductFacetData;
+import com.sadadream.infra.ReplicaRoutingDataSource;
+import com.sadadream.search.FacetCounts;
+
+/**
+ * 카테고리, 브랜드, 통화별 상품 수를 메모리에 집계해 둔다.
+ * 시작할 때 데이터베이스에서 집계를 읽고, 이후에는 커밋된 상품 변경 이벤트로 개수를 조정하며,
+ * 주기적으로 데이터베이스와 다시 맞춘다.
+ */
+@Service
+public class ProductFacetService {
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final ProductRepository productRepository;
+
+    private volatile FacetCounts counts = new FacetCounts(3);
+    private List<ProductChangedEvent> pendingEvents;
+
+    public ProductFacetService(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * 데이터베이스의 집계로 메모리 집계를 교체한다.
+     * 집계하는 동안 상품이 변경되면 그 변경이 결과에 포함되었는지 알 수 없으므로 다시 시도한다.
+     * 변경 이벤트와 비교하는 집계이므로 복제본이 아니라 주 데이터베이스에서 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${product.facets.reconcile-interval-ms:600000}",
+        fixedDelayString = "${product.facets.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+            synchronized (this) {
+                pendingEvents = new ArrayList<>();
+            }
+
+            FacetCounts reconciled = new FacetCounts(3);
+            try {
+                for (ProductFacetCount count : ReplicaRoutingDataSource.readFromPrimary(
+                        productRepository::countByFacets)) {
+                    reconciled.add(Arrays.asList(
+                        count.getCategory(), count.getBrand(), count.getCurrency()), count.getCount());
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pendingEvents = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                boolean changed = !pendingEvents.isEmpty();
+                pendingEvents = null;
+                if (!changed) {
+                    counts = reconciled;
+                    return;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        if (event.getBefore() != null) {
+            counts.add(facets(event.getBefore()), -1);
+        }
+        if (event.getAfter() != null) {
+            counts.add(facets(event.getAfter()), 1);
+        }
+        if (pendingEvents != null) {
+            pendingEvents.add(event);
+        }
+    }
+
+    public ProductFacetData getFacets(String category, String brand, String currency) {
+        List<Map<String, Long>> facets = counts.count(Arrays.asList(category, brand, currency));
+
+        return ProductFacetData.builder()
+            .category(facets.get(0))
+            .brand(facets.get(1))
+            .currency(facets.get(2))
+            .build();
+    }
+
+    private List<String> facets(ProductSnapshot product) {
+        return Arrays.asList(product.getCategory(), product.getBrand(), product.getCurrency());
+    }
+}
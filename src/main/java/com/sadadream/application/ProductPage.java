@@ -0,0 +1,23 @@
+package com.sadadream.application;
+
+import java.util.List;
+
+import com.sadadream.domain.ProductVersion;
+import com.sadadream.dto.VersionData;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 목록 한 페이지에 담길 상품의 버전과 다음 커서.
+ * 요약 정보를 읽기 전에 페이지의 버전으로 조건부 요청을 먼저 검사할 수 있게 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductPage {
+    private final List<ProductVersion> versions;
+
+    private final String nextCursor;
+
+    private final VersionData version;
+}
@@ -0,0 +1,132 @@
+package com.sadadream.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.dto.ProductSummaryData;
+import com.sadadream.infra.ReplicaRoutingDataSource;
+import com.sadadream.search.BigramTokenizer;
+import com.sadadream.search.InvertedIndex;
+
+/**
+ * 상품 이름, 브랜드, 카테고리, 설명에 대한 메모리 검색 색인을 관리한다.
+ * 시작할 때 저장소에서 전체 색인을 만들고, 이후에는 커밋된 상품 변경 이벤트로 색인을 갱신하므로
+ * 검색 요청은 데이터베이스에 접근하지 않는다.
+ */
+@Service
+public class ProductSearchService {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_LIMIT = 100;
+
+    private final ProductRepository productRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private InvertedIndex<ProductSummaryData> index = new InvertedIndex<>();
+    private List<ProductChangedEvent> pendingEvents;
+
+    public ProductSearchService(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        InvertedIndex<ProductSummaryData> rebuilt = new InvertedIndex<>();
+        try {
+            Long after = 0L;
+            List<Product> products;
+            while (!(products = findRebuildBatch(after)).isEmpty()) {
+                for (Product product : products) {
+                    put(rebuilt, ProductSnapshot.of(product));
+                }
+                after = products.get(products.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingEvents.forEach(event -> apply(rebuilt, event));
+            pendingEvents = null;
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구성 중에 받은 변경 이벤트를 마지막에 적용하므로, 이벤트보다 뒤처진 복제본이 아니라 주 데이터베이스에서 읽는다.
+     */
+    private List<Product> findRebuildBatch(Long after) {
+        return ReplicaRoutingDataSource.readFromPrimary(() ->
+            productRepository.findAllByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, REBUILD_BATCH_SIZE)));
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(index, event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ProductSummaryData> search(String query, int limit) {
+        List<String> terms = BigramTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return index.search(terms, Math.min(Math.max(limit, 1), MAX_LIMIT));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(InvertedIndex<ProductSummaryData> target, ProductChangedEvent event) {
+        if (event.getAfter() == null) {
+            target.remove(event.getProductId());
+            return;
+        }
+        put(target, event.getAfter());
+    }
+
+    private void put(InvertedIndex<ProductSummaryData> target, ProductSnapshot product) {
+        List<String> terms = new ArrayList<>();
+        terms.addAll(BigramTokenizer.tokenize(product.getName()));
+        terms.addAll(BigramTokenizer.tokenize(product.getBrand()));
+        terms.addAll(BigramTokenizer.tokenize(product.getCategory()));
+        terms.addAll(BigramTokenizer.tokenize(product.getDescription()));
+
+        target.put(product.getId(), product.toSummaryData(), terms);
+    }
+}
@@ -1,69 +1,353 @@
 package com.sadadream.application;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.github.dozermapper.core.Mapper;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.sadadream.domain.Product;
 import com.sadadream.domain.ProductRepository;
+import com.sadadream.domain.ProductSummary;
+import com.sadadream.domain.ProductVersion;
 import com.sadadream.domain.User;
 import com.sadadream.domain.UserRepository;
+import com.sadadream.dto.ProductBatchData;
 import com.sadadream.dto.ProductData;
+import com.sadadream.dto.ProductListRequestData;
+import com.sadadream.dto.ProductPageData;
+import com.sadadream.dto.ProductResultData;
+import com.sadadream.dto.ProductSummaryData;
+import com.sadadream.dto.VersionData;
 import com.sadadream.errors.ProductNotFoundException;
 import com.sadadream.errors.UserNotFoundException;
+import com.sadadream.infra.ReplicaRoutingDataSource;
+import com.sadadream.mappers.ProductMapper;
 
+/**
+ * 조회 메서드는 읽기 전용 트랜잭션으로 실행한다. 읽기 전용이면 Hibernate 가 불러온 엔티티의
+ * 변경 감지용 스냅샷을 만들지 않고 커밋할 때 flush 하지 않는다.
+ */
 @Service
 @Transactional
 public class ProductService {
-    private final Mapper mapper;
+    public static final String PRODUCT_CACHE = "products";
+
+    private static final String PRODUCT_USER_FK = "product_user_id_fk";
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 상품 요약 응답 속성과 이를 채우는 Product 속성.
+     */
+    private static final Map<String, String> SUMMARY_PROPERTIES = Map.of(
+        "brand", "brand",
+        "name", "name",
+        "price", "price",
+        "currency", "currency",
+        "category", "category",
+        "thumbnail", "imageLink");
+
+    private final ProductMapper productMapper;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+
+    @Autowired
     public ProductService(
-            Mapper dozerMapper,
+            ProductMapper productMapper,
             ProductRepository productRepository,
-             UserRepository userRepository
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            ObjectProvider<CacheManager> cacheManager
     ) {
-        this.mapper = dozerMapper;
+        this(productMapper, productRepository, userRepository, eventPublisher,
+            cacheManager.getIfAvailable());
+    }
+
+    ProductService(
+            ProductMapper productMapper,
+            ProductRepository productRepository,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Nullable CacheManager cacheManager
+    ) {
+        this.productMapper = productMapper;
         this.productRepository = productRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
     }
 
-    public List<Product> getProducts() {
-        return productRepository.findAll();
+    /**
+     * 페이지에 담길 상품의 버전만 읽어 목록의 버전과 다음 커서를 계산한다.
+     * 버전은 다음 페이지 유무를 가리는 한 건까지 포함해 계산하고, 수정 시각은 페이지에서 가장 늦은 값을 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public ProductPage getProductPage(ProductListRequestData listRequest) {
+        int size = pageSize(listRequest.getLimit());
+        List<ProductVersion> versions = findPage(listRequest);
+
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (ProductVersion version : versions) {
+            hasher.putLong(version.getId()).putLong(VersionData.epochMillis(version.getUpdateAt()));
+        }
+
+        String nextCursor = null;
+        if (versions.size() > size) {
+            versions = versions.subList(0, size);
+            ProductVersion last = versions.get(size - 1);
+            nextCursor = listRequest.isSortedByPrice()
+                ? ProductCursor.encode(last.getPrice(), last.getId())
+                : ProductCursor.encode(last.getId());
+        }
+
+        long lastModified = versions.stream()
+            .mapToLong(version -> VersionData.epochMillis(version.getUpdateAt()))
+            .max()
+            .orElse(-1);
+
+        return new ProductPage(versions, nextCursor, new VersionData(hasher.hash().toString(), lastModified));
+    }
+
+    @Transactional(readOnly = true)
+    public ProductPageData getProducts(ProductListRequestData listRequest) {
+        return getProducts(getProductPage(listRequest), listRequest);
+    }
+
+    /**
+     * getProductPage 로 읽은 페이지의 요약 정보를 조회한다. 버전 쿼리를 다시 실행하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public ProductPageData getProducts(ProductPage page, ProductListRequestData listRequest) {
+        return new ProductPageData(toSummaryData(page.getVersions(), listRequest), page.getNextCursor());
+    }
+
+    /**
+     * 지연 로딩되는 이미지 링크까지 트랜잭션 안에서 DTO 로 옮겨 반환한다.
+     * 응답을 직렬화하는 동안에는 데이터베이스 커넥션을 잡고 있지 않는다.
+     * 결과가 캐시에 남으므로 복제본이 아니라 주 데이터베이스에서 읽는다.
+     */
+    @Cacheable(cacheNames = PRODUCT_CACHE, key = "#id")
+    @Transactional(readOnly = true)
+    public ProductResultData getProduct(Long id) {
+        return ReplicaRoutingDataSource.readFromPrimary(
+            () -> productMapper.toProductResultData(findProduct(id)));
     }
 
-    public Product getProduct(Long id) {
-        return findProduct(id);
+    /**
+     * 여러 상품을 요청한 순서대로 조회한다. 상세 캐시에 있는 상품은 그대로 쓰고 나머지만
+     * IN 쿼리 한 번으로 읽어 캐시에 채우며, 없는 상품은 실패 대신 missingIds 로 알려준다.
+     * 트랜잭션은 저장소 조회에서만 열리므로 모두 캐시에 있으면 커넥션을 쓰지 않는다.
+     * 캐시에 채울 상품은 주 데이터베이스에서 읽는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ProductBatchData getProductsByIds(List<Long> ids) {
+        Cache cache = cacheManager == null ? null : cacheManager.getCache(PRODUCT_CACHE);
+        List<Long> distinctIds = ids.stream()
+            .distinct()
+            .collect(Collectors.toList());
+
+        Map<Long, ProductResultData> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            ProductResultData cached = cache == null ? null : cache.get(id, ProductResultData.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<Product> loaded = ReplicaRoutingDataSource.readFromPrimary(
+                () -> productRepository.findAllByIdIn(misses));
+            for (Product product : loaded) {
+                ProductResultData productData = productMapper.toProductResultData(product);
+                found.put(product.getId(), productData);
+                if (cache != null) {
+                    cache.put(product.getId(), productData);
+                }
+            }
+        }
+
+        List<ProductResultData> products = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            if (found.containsKey(id)) {
+                products.add(found.get(id));
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return new ProductBatchData(products, missingIds);
     }
 
-    public Product createProduct(ProductData productData, Long userId) {
+    public ProductResultData createProduct(ProductData productData, Long userId) {
 
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new UserNotFoundException(userId));
 
-        Product product = mapper.map(productData, Product.class);
+        Product product = productMapper.toProduct(productData);
         product.setUser(user);
 
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(
+            savedProduct.getId(), null, ProductSnapshot.of(savedProduct)));
+
+        return productMapper.toProductResultData(savedProduct);
     }
 
-    public Product updateProduct(Long id, ProductData productData) {
+    /**
+     * 여러 상품을 한 번에 등록한다. 소유자는 조회하지 않고 참조만 하며,
+     * 존재하지 않는 소유자는 flush 시점의 소유자 외래 키 위반으로 확인하고, 다른 무결성 위반은 그대로 던진다.
+     */
+    public List<ProductResultData> createProducts(List<ProductData> productDataList, Long userId) {
+        User user = userRepository.getOne(userId);
+
+        List<Product> products = new ArrayList<>(productDataList.size());
+        for (ProductData productData : productDataList) {
+            Product product = productMapper.toProduct(productData);
+            product.setUser(user);
+            products.add(product);
+        }
+
+        List<Product> savedProducts = productRepository.saveAll(products);
+        try {
+            productRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, PRODUCT_USER_FK)) {
+                throw new UserNotFoundException(userId);
+            }
+            throw e;
+        }
+
+        for (Product product : savedProducts) {
+            eventPublisher.publishEvent(new ProductChangedEvent(
+                product.getId(), null, ProductSnapshot.of(product)));
+        }
+
+        return savedProducts.stream()
+            .map(productMapper::toProductResultData)
+            .collect(Collectors.toList());
+    }
+
+    @CacheEvict(cacheNames = PRODUCT_CACHE, key = "#id")
+    public ProductResultData updateProduct(Long id, ProductData productData) {
         Product product = findProduct(id);
+        ProductSnapshot before = ProductSnapshot.of(product);
 
-        product.changeWith(mapper.map(productData, Product.class));
+        product.changeWith(productMapper.toProduct(productData));
+        eventPublisher.publishEvent(new ProductChangedEvent(
+            id, before, ProductSnapshot.of(product)));
 
-        return product;
+        return productMapper.toProductResultData(product);
     }
 
-    public Product deleteProduct(Long id) {
+    @CacheEvict(cacheNames = PRODUCT_CACHE, key = "#id")
+    public ProductResultData deleteProduct(Long id) {
         Product product = findProduct(id);
+        ProductSnapshot before = ProductSnapshot.of(product);
+        ProductResultData deleted = productMapper.toProductResultData(product);
 
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(id, before, null));
+
+        return deleted;
+    }
+
+    private int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    private List<ProductVersion> findPage(ProductListRequestData listRequest) {
+        ProductCursor cursor = ProductCursor.decode(listRequest.getAfter());
+        Pageable pageable = PageRequest.of(0, pageSize(listRequest.getLimit()) + 1);
+
+        long minPrice = Optional.ofNullable(listRequest.getMinPrice()).orElse(0L);
+        long maxPrice = Optional.ofNullable(listRequest.getMaxPrice()).orElse(Long.MAX_VALUE);
+
+        if (listRequest.isSortedByPrice()) {
+            long afterPrice = Optional.ofNullable(cursor.getPrice()).orElse(minPrice);
+            return productRepository.findVersionsOrderByPrice(
+                minPrice, maxPrice, afterPrice, cursor.getId(), pageable);
+        }
+
+        if (listRequest.hasPriceRange()) {
+            return productRepository.findVersionsByPriceBetweenAndIdGreaterThan(
+                minPrice, maxPrice, cursor.getId(), pageable);
+        }
+
+        return productRepository.findVersionsByIdGreaterThan(cursor.getId(), pageable);
+    }
+
+    /**
+     * 요청에 응답 속성이 지정되어 있으면 그 속성에 필요한 컬럼만 조회한다.
+     */
+    private List<ProductSummaryData> toSummaryData(
+            List<ProductVersion> versions, ProductListRequestData listRequest) {
+        if (versions.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = versions.stream()
+            .map(ProductVersion::getId)
+            .collect(Collectors.toList());
+
+        List<ProductSummary> rows = listRequest.hasFields()
+            ? productRepository.findSummariesByIdIn(ids, summaryProperties(listRequest.getFields()))
+            : productRepository.findSummariesByIdIn(ids);
+
+        Map<Long, ProductSummary> summaries = rows.stream()
+            .collect(Collectors.toMap(ProductSummary::getId, Function.identity()));
+
+        return ids.stream()
+            .filter(summaries::containsKey)
+            .map(summaries::get)
+            .map(summary -> ProductSummaryData.builder()
+                .id(summary.getId())
+                .brand(summary.getBrand())
+                .name(summary.getName())
+                .price(summary.getPrice())
+                .currency(summary.getCurrency())
+                .thumbnail(thumbnail(summary.getImageLink()))
+                .category(summary.getCategory())
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private Set<String> summaryProperties(List<String> fields) {
+        return fields.stream()
+            .filter(SUMMARY_PROPERTIES::containsKey)
+            .map(SUMMARY_PROPERTIES::get)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
 
-        return product;
+    private String thumbnail(List<String> imageLink) {
+        return imageLink == null || imageLink.isEmpty() ? null : imageLink.get(0);
     }
 
     private Product findProduct(Long id) {
@@ -0,0 +1,63 @@
+package com.sadadream.application;
+
+import java.util.List;
+
+import com.sadadream.domain.Product;
+import com.sadadream.dto.ProductSummaryData;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductSnapshot {
+    private final Long id;
+
+    private final String brand;
+
+    private final String name;
+
+    private final Long price;
+
+    private final String currency;
+
+    private final String thumbnail;
+
+    private final String description;
+
+    private final String category;
+
+    public static ProductSnapshot of(Product product) {
+        List<String> imageLink = product.getImageLink();
+        String thumbnail = imageLink == null || imageLink.isEmpty() ? null : imageLink.get(0);
+
+        return of(product, thumbnail);
+    }
+
+    private static ProductSnapshot of(Product product, String thumbnail) {
+        return ProductSnapshot.builder()
+            .id(product.getId())
+            .brand(product.getBrand())
+            .name(product.getName())
+            .price(product.getPrice())
+            .currency(product.getCurrency())
+            .thumbnail(thumbnail)
+            .description(product.getDescription())
+            .category(product.getCategory())
+            .build();
+    }
+
+    public ProductSummaryData toSummaryData() {
+        return ProductSummaryData.builder()
+            .id(id)
+            .brand(brand)
+            .name(name)
+            .price(price)
+            .currency(currency)
+            .thumbnail(thumbnail)
+            .category(category)
+            .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.sadadream.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.sadadream.domain.RevokedToken;
+import com.sadadream.domain.RevokedTokenRepository;
+import com.sadadream.errors.InvalidTokenException;
+import com.sadadream.utils.JwtUtil;
+
+/**
+ * 폐기된 세션과 사용자를 메모리에 들고 있어서, 요청마다 데이터베이스를 조회하지 않고 토큰 폐기 여부를 판단한다.
+ * 대부분의 토큰은 블룸 필터에서 바로 걸러지고, 필터에 걸린 경우만 정확한 집합으로 확인한다.
+ * 다른 인스턴스에서 폐기한 내용은 주기적으로 새로 추가된 것만 읽어 온다.
+ */
+@Service
+public class TokenRevocationService {
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final Duration RELOAD_OVERLAP = Duration.ofSeconds(30);
+    private static final String TOKEN_KEY_INDEX = "revoked_token_token_key_idx";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final Clock clock;
+
+    private volatile Revocations revocations = new Revocations();
+    private volatile LocalDateTime reloadedAt;
+
+    @Autowired
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, JwtUtil jwtUtil) {
+        this(revokedTokenRepository, jwtUtil, Clock.systemUTC());
+    }
+
+    TokenRevocationService(RevokedTokenRepository revokedTokenRepository, JwtUtil jwtUtil, Clock clock) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.clock = clock;
+        this.reloadedAt = LocalDateTime.now(clock);
+    }
+
+    public boolean isSessionRevoked(String sessionId) {
+        return sessionId != null && revocations.contains(sessionKey(sessionId));
+    }
+
+    public boolean isUserRevoked(Long userId) {
+        return revocations.contains(userKey(userId));
+    }
+
+    /**
+     * 세션의 액세스 토큰과 리프레시 토큰을 함께 폐기한다.
+     * 바로 저장해서 이미 폐기된 세션이면 유일 인덱스 위반으로 실패하므로, 같은 세션은 한 번만 폐기할 수 있다.
+     */
+    @Transactional
+    public void revokeSession(String sessionId) {
+        revoke(sessionKey(sessionId), jwtUtil.getRefreshTokenTtlMillis());
+    }
+
+    /**
+     * 사용자에게 발급된 액세스 토큰을 모두 폐기한다. 리프레시 토큰은 갱신할 때 사용자를 다시 확인하므로,
+     * 액세스 토큰이 만료되는 시각까지만 기억하면 된다.
+     */
+    @Transactional
+    public void revokeUser(Long userId) {
+        revoke(userKey(userId), jwtUtil.getAccessTokenTtlMillis());
+    }
+
+    /**
+     * 마지막으로 읽은 뒤에 폐기된 항목을 추가한다. 커밋이 늦은 트랜잭션을 놓치지 않도록 앞 구간을 조금 겹쳐 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.reload-interval-ms:5000}")
+    public void reload() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+
+        revocations.addAll(revokedTokenRepository.findTokenKeysByRevokedAtAfter(
+            reloadedAt.minus(RELOAD_OVERLAP)));
+
+        reloadedAt = startedAt;
+    }
+
+    /**
+     * 블룸 필터에서는 항목을 지울 수 없으므로, 만료된 항목을 정리하고 남은 항목으로 필터를 새로 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}",
+        fixedDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}")
+    @Transactional
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+
+        revokedTokenRepository.deleteByExpiresAtBefore(startedAt);
+
+        Revocations rebuilt = new Revocations();
+        rebuilt.addAll(revokedTokenRepository.findTokenKeysByExpiresAtAfter(startedAt));
+
+        revocations = rebuilt;
+        reloadedAt = startedAt;
+    }
+
+    /**
+     * 폐기 내용은 커밋된 뒤에 메모리에 반영한다. 롤백된 폐기로 유효한 토큰이 거절되지 않게 한다.
+     */
+    private void revoke(String tokenKey, long ttlMillis) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        revokedTokenRepository.save(
+            new RevokedToken(tokenKey, now, now.plus(Duration.ofMillis(ttlMillis))));
+        try {
+            revokedTokenRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, TOKEN_KEY_INDEX)) {
+                throw new InvalidTokenException(tokenKey);
+            }
+            throw e;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revocations.add(tokenKey);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revocations.add(tokenKey);
+            }
+        });
+    }
+
+    private String sessionKey(String sessionId) {
+        return "session:" + sessionId;
+    }
+
+    private String userKey(Long userId) {
+        return "user:" + userId;
+    }
+
+    private static class Revocations {
+        private final BloomFilter<CharSequence> filter = BloomFilter.create(
+            Funnels.stringFunnel(StandardCharsets.UTF_8), EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        void add(String key) {
+            keys.add(key);
+            filter.put(key);
+        }
+
+        void addAll(Collection<String> keys) {
+            keys.forEach(this::add);
+        }
+
+        boolean contains(String key) {
+            return filter.mightContain(key) && keys.contains(key);
+        }
+    }
+}
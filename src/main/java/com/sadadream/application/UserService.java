@@ -1,12 +1,11 @@
 package com.sadadream.application;
 
-import javax.transaction.Transactional;
-
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.github.dozermapper.core.Mapper;
 import com.sadadream.domain.Role;
 import com.sadadream.domain.RoleRepository;
 import com.sadadream.domain.User;
@@ -15,36 +14,59 @@ import com.sadadream.dto.UserModificationData;
 import com.sadadream.dto.UserRegistrationData;
 import com.sadadream.errors.UserEmailDuplicationException;
 import com.sadadream.errors.UserNotFoundException;
+import com.sadadream.mappers.UserMapper;
+import com.sadadream.security.PasswordHashingExecutor;
 
 @Service
 @Transactional
 public class UserService {
-    private final Mapper mapper;
+    private static final String USER_EMAIL_INDEX = "user_email_idx";
+
+    private final UserMapper userMapper;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
-
-    public UserService(Mapper dozerMapper, UserRepository userRepository,
-        RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
-        this.mapper = dozerMapper;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public UserService(UserMapper userMapper, UserRepository userRepository,
+        RoleRepository roleRepository, PasswordEncoder passwordEncoder,
+        TokenRevocationService tokenRevocationService,
+        PasswordHashingExecutor passwordHashingExecutor) {
+        this.userMapper = userMapper;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationService = tokenRevocationService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
+    /**
+     * 비밀번호를 해시 스레드에서 먼저 해시한 뒤 사용자와 권한을 한 번의 flush 로 저장한다.
+     * 트랜잭션은 호출한 스레드에 남고, 해시하는 동안에는 아직 쿼리를 실행하지 않는다.
+     * 이메일 중복은 미리 조회하지 않고 유일 인덱스 위반으로 판단하므로, 동시에 가입해도 한 명만 성공한다.
+     * 이메일 유일 인덱스가 아닌 무결성 위반은 그대로 던진다.
+     */
     public User registerUser(UserRegistrationData registrationData) {
-        String email = registrationData.getEmail();
-        if (userRepository.existsByEmail(email)) {
-            throw new UserEmailDuplicationException(email);
+        User user = userMapper.toUser(registrationData);
+        passwordHashingExecutor.call(() -> {
+            user.changePassword(registrationData.getPassword(), passwordEncoder);
+            return user;
+        });
+
+        User saved = userRepository.save(user);
+        roleRepository.save(new Role(saved.getId(), "USER"));
+
+        try {
+            userRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, USER_EMAIL_INDEX)) {
+                throw new UserEmailDuplicationException(registrationData.getEmail());
+            }
+            throw e;
         }
 
-        User user = userRepository.save(mapper.map(registrationData, User.class));
-
-        user.changePassword(registrationData.getPassword(), passwordEncoder);
-
-        roleRepository.save(new Role(user.getId(), "USER"));
-
-        return user;
+        return saved;
     }
 
     public User updateUser(Long id, UserModificationData modificationData, Long userId) {
@@ -55,7 +77,7 @@ public class UserService {
 
         User user = findUser(id);
 
-        User source = mapper.map(modificationData, User.class);
+        User source = userMapper.toUser(modificationData);
         user.changeWith(source);
 
         return user;
@@ -64,6 +86,7 @@ public class UserService {
     public User deleteUser(Long id) {
         User user = findUser(id);
         user.destroy();
+        tokenRevocationService.revokeUser(id);
         return user;
     }
 
@@ -0,0 +1,14 @@
+package com.sadadream.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 캐시 어드바이스가 트랜잭션 어드바이스보다 바깥에서 동작하도록 하여,
+ * 캐시 적중 시에는 트랜잭션을 시작하지 않고 커넥션 풀도 사용하지 않는다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfiguration {
+}
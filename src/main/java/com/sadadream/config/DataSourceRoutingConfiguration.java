@@ -0,0 +1,110 @@
+package com.sadadream.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.sadadream.filters.ReplicaClientFilter;
+import com.sadadream.infra.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * datasource.routing.enabled 가 켜져 있으면 spring.datasource 를 주 데이터베이스로,
+ * datasource.routing.replicas 를 복제본으로 하는 라우팅 DataSource 를 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceProperties.class, ReplicaDataSourceProperties.class})
+public class DataSourceRoutingConfiguration {
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReplicaRoutingDataSource routingDataSource;
+
+    /**
+     * 주 데이터베이스와 복제본 풀은 빈으로 등록하지 않는다. DataSource 빈이 여러 개면 스키마 초기화 등이
+     * 각각에 대해 실행되므로, 라우팅 DataSource 하나만 노출한다.
+     * 대신 풀마다 커넥션 대기 시간과 점유 시간 지표(hikaricp.connections.*)를 직접 등록한다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+        ReplicaDataSourceProperties properties, Environment environment,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        pools.add(primary);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (ReplicaDataSourceProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource dataSource = replicaDataSource(replica, primary);
+            pools.add(dataSource);
+            replicas.add(dataSource);
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas,
+            properties.getMaxReplicaLagMs(), properties.getStickyMs(), properties.getLagQuery(),
+            System::currentTimeMillis);
+
+        meterRegistry.ifAvailable(registry -> pools.forEach(pool ->
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry))));
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 보안 필터보다 먼저 실행해서, 요청에서 실행하는 모든 쿼리가 같은 클라이언트로 라우팅되게 한다.
+     */
+    @Bean
+    public FilterRegistrationBean<ReplicaClientFilter> replicaClientFilter() {
+        FilterRegistrationBean<ReplicaClientFilter> registration =
+            new FilterRegistrationBean<>(new ReplicaClientFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-probe-interval-ms:1000}")
+    public void probeReplicaLag() {
+        if (routingDataSource != null) {
+            routingDataSource.probeReplicaLag();
+        }
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource replicaDataSource(ReplicaDataSourceProperties.Replica replica, HikariDataSource primary) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + replica.getUrl());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(primary.getConnectionTimeout());
+        dataSource.setConnectionInitSql(primary.getConnectionInitSql());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,46 @@
+package com.sadadream.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Accept 헤더로 application/cbor, application/x-jackson-smile 응답을 고를 수 있게 한다.
+ * 스프링 기본 변환기는 spring.jackson 설정을 따르지 않으므로, JSON 과 같은 빌더로 만든 변환기로 바꿔
+ * 속성 이름(SNAKE_CASE)과 날짜 형식이 JSON 응답과 같게 한다. 기본값은 계속 JSON 이다.
+ */
+@Configuration
+public class MessageConverterConfiguration {
+    /**
+     * 상품 DTO 에는 @JsonFilter 가 붙어 있어 필터 없이는 직렬화할 수 없다.
+     * 스프링 부트의 ObjectMapper 와 CBOR, Smile 변환기에 모든 속성을 쓰는 기본 필터를 두고,
+     * 요청마다 고른 속성은 ProductFieldsAdvice 가 덮어쓴다.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer serializeAllFilterCustomizer() {
+        return builder -> builder.filters(
+            new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+            builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+            builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,40 @@
+package com.sadadream.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaDataSourceProperties {
+    private boolean enabled;
+
+    /**
+     * 이보다 많이 뒤처진 복제본에는 읽기를 보내지 않는다.
+     */
+    private long maxReplicaLagMs = 1000;
+
+    /**
+     * 쓰기를 커밋한 뒤 이 시간 동안은 같은 Authorization 헤더를 실은 읽기를 주 데이터베이스로 보낸다.
+     */
+    private long stickyMs = 5000;
+
+    private String lagQuery = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+        + "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0) end::bigint";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
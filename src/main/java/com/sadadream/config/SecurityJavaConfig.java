@@ -2,33 +2,55 @@ package com.sadadream.config;
 
 import javax.servlet.Filter;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.access.ExceptionTranslationFilter;
+import org.springframework.security.web.context.request.async.WebAsyncManagerIntegrationFilter;
 import org.springframework.security.web.csrf.CsrfFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
 import com.sadadream.application.AuthenticationService;
 import com.sadadream.filters.AuthenticationErrorFilter;
+import com.sadadream.filters.FilterChainTimingFilter;
 import com.sadadream.filters.JwtAuthenticationFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @Configuration
 @EnableGlobalMethodSecurity(prePostEnabled = true)
 public class SecurityJavaConfig extends WebSecurityConfigurerAdapter {
+    /**
+     * 누구나 볼 수 있는 상품 조회. 이 요청들은 토큰을 해석하지 않는다.
+     * 아이디 목록이 길어 본문으로 보내는 상품 다건 조회도 여기에 포함된다.
+     */
+    private static final RequestMatcher PUBLIC_REQUESTS = new OrRequestMatcher(
+        new AntPathRequestMatcher("/products/**", HttpMethod.GET.name()),
+        new AntPathRequestMatcher("/products/lookup", HttpMethod.POST.name()));
 
     private final AuthenticationService authenticationService;
+    private final MeterRegistry meterRegistry;
 
-    public SecurityJavaConfig(AuthenticationService authenticationService) {
+    public SecurityJavaConfig(AuthenticationService authenticationService,
+        ObjectProvider<MeterRegistry> meterRegistry) {
         this.authenticationService = authenticationService;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
     }
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
-        Filter authenticationFilter = new JwtAuthenticationFilter(authenticationManager(), authenticationService);
+        Filter authenticationFilter = new JwtAuthenticationFilter(
+            authenticationManager(), authenticationService, PUBLIC_REQUESTS);
 
         CharacterEncodingFilter encodingFilter = new CharacterEncodingFilter();
         encodingFilter.setEncoding("UTF-8");
@@ -36,6 +58,10 @@ public class SecurityJavaConfig extends WebSecurityConfigurerAdapter {
 
         Filter authenticationErrorFilter = new AuthenticationErrorFilter();
         http.csrf().disable()
+            .anonymous().disable()
+            .addFilterBefore(FilterChainTimingFilter.start(), WebAsyncManagerIntegrationFilter.class)
+            .addFilterAfter(FilterChainTimingFilter.stop(meterRegistry, PUBLIC_REQUESTS),
+                ExceptionTranslationFilter.class)
             .addFilter(authenticationFilter)
             .addFilterBefore(encodingFilter, CsrfFilter.class)
             .addFilterBefore(authenticationErrorFilter, JwtAuthenticationFilter.class)
@@ -6,7 +6,9 @@ import java.util.Set;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,7 +17,11 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.context.request.WebRequest;
 
 import com.sadadream.dto.ErrorResponse;
+import com.sadadream.errors.InvalidCursorException;
+import com.sadadream.errors.InvalidTokenException;
 import com.sadadream.errors.LoginFailException;
+import com.sadadream.errors.LoginThrottledException;
+import com.sadadream.errors.PasswordHashingBusyException;
 import com.sadadream.errors.ProductNotFoundException;
 import com.sadadream.errors.UserEmailDuplicationException;
 import com.sadadream.errors.UserNotFoundException;
@@ -47,6 +53,34 @@ public class ControllerErrorAdvice {
         return new ErrorResponse(new Date(), exception.getMessage(), request.getDescription(false));
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public ErrorResponse handleInvalidCursor(Exception exception, WebRequest request) {
+        return new ErrorResponse(new Date(), exception.getMessage(), request.getDescription(false));
+    }
+
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    @ExceptionHandler(InvalidTokenException.class)
+    public ErrorResponse handleInvalidToken(Exception exception, WebRequest request) {
+        return new ErrorResponse(new Date(), exception.getMessage(), request.getDescription(false));
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusy(Exception exception, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ErrorResponse(new Date(), exception.getMessage(), request.getDescription(false)));
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ErrorResponse> handleLoginThrottled(
+            LoginThrottledException exception, WebRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+            .body(new ErrorResponse(new Date(), exception.getMessage(), request.getDescription(false)));
+    }
+
     @ResponseBody
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(ConstraintViolationException.class)
@@ -22,48 +22,116 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.sadadream.application.ProductFacetService;
+import com.sadadream.application.ProductPage;
+import com.sadadream.application.ProductSearchService;
 import com.sadadream.application.ProductService;
-import com.sadadream.domain.Product;
+import com.sadadream.dto.ProductBatchData;
+import com.sadadream.dto.ProductBulkData;
 import com.sadadream.dto.ProductData;
+import com.sadadream.dto.ProductFacetData;
+import com.sadadream.dto.ProductIdsData;
+import com.sadadream.dto.ProductListRequestData;
+import com.sadadream.dto.ProductPageData;
+import com.sadadream.dto.ProductResultData;
+import com.sadadream.dto.ProductSummaryData;
+import com.sadadream.dto.VersionData;
 
 @RestController
 @RequestMapping("/products")
 @CrossOrigin
 public class ProductController {
     private final ProductService productService;
-
-    public ProductController(ProductService productService) {
+    private final ProductSearchService productSearchService;
+    private final ProductFacetService productFacetService;
+    private final RepresentationVersionAdvice representationVersionAdvice;
+
+    public ProductController(
+            ProductService productService,
+            ProductSearchService productSearchService,
+            ProductFacetService productFacetService,
+            RepresentationVersionAdvice representationVersionAdvice
+    ) {
         this.productService = productService;
+        this.productSearchService = productSearchService;
+        this.productFacetService = productFacetService;
+        this.representationVersionAdvice = representationVersionAdvice;
     }
 
+    /**
+     * 페이지의 버전을 먼저 읽어 조건부 요청을 검사하고, 바뀌었을 때만 요약 정보를 조회한다.
+     */
     @GetMapping
-    public List<Product> list() {
-        return productService.getProducts();
+    public ResponseEntity<ProductPageData> list(
+            @Valid ProductListRequestData listRequest,
+            NativeWebRequest request
+    ) {
+        ProductPage page = productService.getProductPage(listRequest);
+        if (representationVersionAdvice.checkNotModified(request, ProductPageData.class, page.getVersion())) {
+            return null;
+        }
+
+        return ResponseEntity.ok(productService.getProducts(page, listRequest));
+    }
+
+    /**
+     * 장바구니, 찜 목록처럼 정해진 상품들을 한 번에 조회한다. 예: GET /products?ids=1,2,3
+     */
+    @GetMapping(params = "ids")
+    public ProductBatchData listByIds(@Valid ProductIdsData idsData) {
+        return productService.getProductsByIds(idsData.getIds());
+    }
+
+    /**
+     * 아이디 목록이 길어 쿼리 문자열에 담기 어려울 때 쓰는 다건 조회.
+     */
+    @PostMapping("lookup")
+    public ProductBatchData lookup(@RequestBody @Valid ProductIdsData idsData) {
+        return productService.getProductsByIds(idsData.getIds());
+    }
+
+    @GetMapping("search")
+    public List<ProductSummaryData> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return productSearchService.search(q, limit);
+    }
+
+    @GetMapping("facets")
+    public ProductFacetData facets(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) String currency
+    ) {
+        return productFacetService.getFacets(category, brand, currency);
     }
 
     @GetMapping("{id}")
-    public ResponseEntity<EntityModel<Product>> detail(@PathVariable Long id) {
-        Product product = productService.getProduct(id);
+    public ResponseEntity<EntityModel<ProductResultData>> detail(@PathVariable Long id, WebRequest request) {
+        ProductResultData product = productService.getProduct(id);
+        RepresentationVersionAdvice.setVersion(request, VersionData.of(product.getId(), product.getUpdateAt()));
 
-        EntityModel entityModel = EntityModel.of(product);
-        WebMvcLinkBuilder linkTo = linkTo(methodOn(this.getClass()).list());
+        EntityModel<ProductResultData> entityModel = EntityModel.of(product);
+        WebMvcLinkBuilder linkTo = linkTo(methodOn(this.getClass()).list(new ProductListRequestData(), null));
         entityModel.add(linkTo.withRel("all-products"));
 
-        return ResponseEntity
-            .ok()
-            .body(entityModel);
+        return ResponseEntity.ok(entityModel);
     }
 
     @PostMapping("{id}")
     @PreAuthorize("isAuthenticated() and hasAuthority('USER')")
-    public ResponseEntity<Product> create(
+    public ResponseEntity<ProductResultData> create(
             @PathVariable Long id, @RequestBody @Valid ProductData productData
     ) {
-        Product savedProduct = productService.createProduct(productData, id);
+        ProductResultData savedProduct = productService.createProduct(productData, id);
 
         URI location = ServletUriComponentsBuilder
             .fromCurrentRequest()
@@ -79,9 +147,18 @@ public class ProductController {
             .body(savedProduct);
     }
 
+    @PostMapping("{id}/bulk")
+    @PreAuthorize("isAuthenticated() and hasAuthority('USER')")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<ProductResultData> createAll(
+            @PathVariable Long id, @RequestBody @Valid ProductBulkData bulkData
+    ) {
+        return productService.createProducts(bulkData.getProducts(), id);
+    }
+
     @PatchMapping("{id}")
     @PreAuthorize("isAuthenticated() and hasAuthority('USER')")
-    public Product update(
+    public ProductResultData update(
             @PathVariable Long id,
             @RequestBody @Valid ProductData productData
     ) {
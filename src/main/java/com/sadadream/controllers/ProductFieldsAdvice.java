@@ -0,0 +1,35 @@
+package com.sadadream.controllers;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.sadadream.dto.ProductFields;
+
+/**
+ * 상품 응답에 fields 파라미터로 고른 속성만 직렬화하도록 Jackson 필터를 지정한다.
+ * 서블릿 요청이 아니면 ObjectMapper 의 기본 필터대로 모든 속성을 쓴다.
+ */
+@ControllerAdvice(assignableTypes = ProductController.class)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ProductFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest)) {
+            return;
+        }
+
+        String fields = ((ServletServerHttpRequest) request).getServletRequest()
+            .getParameter(ProductFields.PARAMETER);
+
+        bodyContainer.setFilters(ProductFields.filterOf(fields));
+    }
+}
@@ -0,0 +1,155 @@
+package com.sadadream.controllers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.sadadream.dto.VersionData;
+
+/**
+ * 같은 주소라도 Accept 에 따라 JSON, CBOR, Smile 본문이 달라지므로 협상하는 컨트롤러의 응답에 Vary: Accept 를 붙인다.
+ * 컨트롤러가 버전을 남긴 응답은 협상된 미디어 타입을 더해 ETag 를 만든 뒤 조건부 요청을 검사한다.
+ * 미디어 타입은 본문을 쓰기 직전에야 정해지므로, 다른 응답 어드바이스가 모두 끝난 뒤에 실행한다.
+ * 오류 응답은 ControllerErrorAdvice 가 만들므로 이 어드바이스가 적용되지 않는다.
+ */
+@ControllerAdvice(assignableTypes = {ProductController.class, UserController.class})
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class RepresentationVersionAdvice implements ResponseBodyAdvice<Object> {
+    private static final String VERSION_ATTRIBUTE = RepresentationVersionAdvice.class.getName() + ".version";
+
+    private final ObjectProvider<ContentNegotiationManager> contentNegotiationManager;
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    public RepresentationVersionAdvice(
+            ObjectProvider<ContentNegotiationManager> contentNegotiationManager,
+            ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter
+    ) {
+        this.contentNegotiationManager = contentNegotiationManager;
+        this.handlerAdapter = handlerAdapter;
+    }
+
+    public static void setVersion(WebRequest request, VersionData version) {
+        request.setAttribute(VERSION_ATTRIBUTE, version, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * 본문을 만들기 전에 조건부 요청을 검사한다. 본문을 만드는 비용이 큰 응답에서 쓴다.
+     * 본문을 쓸 때와 같은 방식으로 미디어 타입을 미리 협상해 beforeBodyWrite 와 같은 ETag 를 만든다.
+     */
+    public boolean checkNotModified(NativeWebRequest request, Class<?> bodyType, VersionData version) {
+        setVersion(request, version);
+
+        return request.checkNotModified(
+            etag(version, negotiate(request, bodyType)), version.getLastModified());
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        if (!headers.getVary().contains(HttpHeaders.ACCEPT)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+
+        if (!(request instanceof ServletServerHttpRequest)
+                || !(response instanceof ServletServerHttpResponse)) {
+            return body;
+        }
+
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        Object version = servletRequest.getAttribute(VERSION_ATTRIBUTE);
+        if (!(version instanceof VersionData)) {
+            return body;
+        }
+
+        ServletWebRequest webRequest = new ServletWebRequest(
+            servletRequest, ((ServletServerHttpResponse) response).getServletResponse());
+        String etag = etag((VersionData) version, selectedContentType);
+        if (webRequest.checkNotModified(etag, ((VersionData) version).getLastModified())) {
+            return null;
+        }
+
+        return body;
+    }
+
+    /**
+     * AbstractMessageConverterMethodProcessor 가 본문을 쓸 때 미디어 타입을 고르는 순서를 따른다.
+     * 협상할 수 없으면 null 을 돌려주고, 406 응답은 본문을 쓸 때 스프링이 만든다.
+     */
+    private MediaType negotiate(NativeWebRequest request, Class<?> bodyType) {
+        List<MediaType> acceptableTypes;
+        try {
+            acceptableTypes = contentNegotiationManager.getObject().resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return null;
+        }
+
+        List<MediaType> producibleTypes = new ArrayList<>();
+        for (HttpMessageConverter<?> converter : handlerAdapter.getObject().getMessageConverters()) {
+            if (converter.canWrite(bodyType, null)) {
+                producibleTypes.addAll(converter.getSupportedMediaTypes());
+            }
+        }
+
+        Set<MediaType> compatibleTypeSet = new LinkedHashSet<>();
+        for (MediaType acceptableType : acceptableTypes) {
+            for (MediaType producibleType : producibleTypes) {
+                if (acceptableType.isCompatibleWith(producibleType)) {
+                    compatibleTypeSet.add(mostSpecific(acceptableType, producibleType));
+                }
+            }
+        }
+        List<MediaType> compatibleTypes = new ArrayList<>(compatibleTypeSet);
+        MediaType.sortBySpecificityAndQuality(compatibleTypes);
+
+        return compatibleTypes.stream()
+            .filter(MediaType::isConcrete)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private MediaType mostSpecific(MediaType acceptableType, MediaType producibleType) {
+        MediaType producibleTypeToUse = producibleType.copyQualityValue(acceptableType);
+        return MediaType.SPECIFICITY_COMPARATOR.compare(acceptableType, producibleTypeToUse) <= 0
+            ? acceptableType
+            : producibleTypeToUse;
+    }
+
+    private String etag(VersionData version, MediaType contentType) {
+        if (contentType == null) {
+            return "\"" + version.getVersion() + "\"";
+        }
+        return "\"" + version.getVersion() + "-" + contentType.getSubtype() + "\"";
+    }
+}
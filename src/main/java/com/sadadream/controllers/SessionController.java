@@ -1,9 +1,12 @@
 package com.sadadream.controllers;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,8 +14,12 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sadadream.application.AuthenticationService;
+import com.sadadream.dto.SessionRefreshData;
 import com.sadadream.dto.SessionRequestData;
 import com.sadadream.dto.SessionResponseData;
+import com.sadadream.security.ClientIpResolver;
+import com.sadadream.security.LoginThrottle;
+import com.sadadream.security.UserAuthentication;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -21,24 +28,45 @@ import io.swagger.annotations.ApiOperation;
 @CrossOrigin
 public class SessionController {
     private final AuthenticationService authenticationService;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
 
-    public SessionController(AuthenticationService authenticationService) {
+    public SessionController(AuthenticationService authenticationService,
+        LoginThrottle loginThrottle, ClientIpResolver clientIpResolver) {
         this.authenticationService = authenticationService;
+        this.loginThrottle = loginThrottle;
+        this.clientIpResolver = clientIpResolver;
     }
 
     @ApiOperation(value="로그인", notes = "로그인을 수행한다", response = SessionResponseData.class)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public SessionResponseData login(
-            @Valid @RequestBody SessionRequestData sessionRequestData
+            @Valid @RequestBody SessionRequestData sessionRequestData,
+            HttpServletRequest request
     ) {
         String email = sessionRequestData.getEmail();
         String password = sessionRequestData.getPassword();
 
-        String accessToken = authenticationService.login(email, password);
+        loginThrottle.check(email, clientIpResolver.resolve(request));
 
-        return SessionResponseData.builder()
-                .accessToken(accessToken)
-                .build();
+        return authenticationService.login(email, password);
+    }
+
+    @ApiOperation(value="토큰 갱신", notes = "리프레시 토큰으로 새 토큰을 발급한다", response = SessionResponseData.class)
+    @PostMapping("refresh")
+    @ResponseStatus(HttpStatus.CREATED)
+    public SessionResponseData refresh(
+            @Valid @RequestBody SessionRefreshData sessionRefreshData
+    ) {
+        return authenticationService.refresh(sessionRefreshData.getRefreshToken());
+    }
+
+    @ApiOperation(value="로그아웃", notes = "현재 세션의 토큰을 폐기한다")
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("isAuthenticated()")
+    public void logout(UserAuthentication authentication) {
+        authenticationService.logout(authentication.getSessionId());
     }
 }
@@ -2,13 +2,18 @@ package com.sadadream.domain;
 
 import java.util.List;
 
-import javax.persistence.ElementCollection;
+import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.ForeignKey;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -20,25 +25,31 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = {
+    @Index(name = "product_price_id_idx", columnList = "price, id"),
+    @Index(name = "product_user_id_idx", columnList = "user_id"),
+    @Index(name = "product_facets_idx", columnList = "category, brand, currency")
+})
 @Builder
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Product extends BaseTime {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_id_seq")
+    @SequenceGenerator(name = "product_id_seq", sequenceName = "product_id_seq", allocationSize = 50)
     private Long id;
 
     private String brand;
 
     private String name;
 
-    private String price;
+    private Long price;
 
     private String currency;
 
-    @ElementCollection
+    @Convert(converter = StringListConverter.class)
+    @Column(columnDefinition = "varchar")
     private List<String> imageLink;
 
     private String description;
@@ -46,6 +57,7 @@ public class Product extends BaseTime {
     private String category;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "product_user_id_fk"))
     @JsonIgnore
     @Setter
     private User user;
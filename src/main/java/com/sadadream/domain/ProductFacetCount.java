@@ -0,0 +1,11 @@
+package com.sadadream.domain;
+
+public interface ProductFacetCount {
+    String getCategory();
+
+    String getBrand();
+
+    String getCurrency();
+
+    Long getCount();
+}
@@ -1,14 +1,39 @@
 package com.sadadream.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 public interface ProductRepository {
     List<Product> findAll();
 
+    List<Product> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
+    List<ProductSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    List<ProductSummary> findSummariesByIdIn(Collection<Long> ids, Collection<String> properties);
+
+    List<ProductFacetCount> countByFacets();
+
+    List<ProductVersion> findVersionsByIdGreaterThan(Long id, Pageable pageable);
+
+    List<ProductVersion> findVersionsByPriceBetweenAndIdGreaterThan(
+        Long minPrice, Long maxPrice, Long id, Pageable pageable);
+
+    List<ProductVersion> findVersionsOrderByPrice(
+        Long minPrice, Long maxPrice, Long afterPrice, Long afterId, Pageable pageable);
+
     Optional<Product> findById(Long id);
 
     Product save(Product product);
 
     void delete(Product product);
+
+    <S extends Product> List<S> saveAll(Iterable<S> products);
+
+    void flush();
 }
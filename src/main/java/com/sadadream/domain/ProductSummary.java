@@ -0,0 +1,19 @@
+package com.sadadream.domain;
+
+import java.util.List;
+
+public interface ProductSummary {
+    Long getId();
+
+    String getBrand();
+
+    String getName();
+
+    Long getPrice();
+
+    String getCurrency();
+
+    String getCategory();
+
+    List<String> getImageLink();
+}
@@ -0,0 +1,11 @@
+package com.sadadream.domain;
+
+import java.time.LocalDateTime;
+
+public interface ProductVersion {
+    Long getId();
+
+    Long getPrice();
+
+    LocalDateTime getUpdateAt();
+}
@@ -0,0 +1,42 @@
+package com.sadadream.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 폐기된 세션이나 사용자. 폐기 대상의 토큰이 모두 만료되는 시각까지만 의미가 있다.
+ */
+@Entity
+@Table(name = "revoked_token", indexes = {
+    @Index(name = "revoked_token_token_key_idx", columnList = "tokenKey", unique = true),
+    @Index(name = "revoked_token_revoked_at_idx", columnList = "revokedAt"),
+    @Index(name = "revoked_token_expires_at_idx", columnList = "expiresAt")
+})
+@Getter
+@NoArgsConstructor
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String tokenKey;
+
+    private LocalDateTime revokedAt;
+
+    private LocalDateTime expiresAt;
+
+    public RevokedToken(String tokenKey, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        this.tokenKey = tokenKey;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+}
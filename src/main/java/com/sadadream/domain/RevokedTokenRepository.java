@@ -0,0 +1,16 @@
+package com.sadadream.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository {
+    RevokedToken save(RevokedToken revokedToken);
+
+    List<String> findTokenKeysByRevokedAtAfter(LocalDateTime revokedAt);
+
+    List<String> findTokenKeysByExpiresAtAfter(LocalDateTime expiresAt);
+
+    int deleteByExpiresAtBefore(LocalDateTime expiresAt);
+
+    void flush();
+}
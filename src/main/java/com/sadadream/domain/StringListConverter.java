@@ -0,0 +1,48 @@
+package com.sadadream.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 문자열 목록을 JSON 배열 문자열 하나로 저장한다.
+ * 별도 테이블 없이 행 하나에 담기므로 읽을 때 조인이 없고, 목록을 바꾸면 update 한 번으로 끝난다.
+ */
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+
+        try {
+            return OBJECT_MAPPER.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String column) {
+        if (column == null) {
+            return new ArrayList<>();
+        }
+
+        try {
+            return OBJECT_MAPPER.readValue(column, STRING_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
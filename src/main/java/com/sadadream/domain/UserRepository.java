@@ -5,11 +5,13 @@ import java.util.Optional;
 public interface UserRepository {
     User save(User user);
 
-    boolean existsByEmail(String email);
-
     Optional<User> findById(Long id);
 
+    User getOne(Long id);
+
     Optional<User> findByIdAndDeletedIsFalse(Long id);
 
     Optional<User> findByEmail(String email);
+
+    void flush();
 }
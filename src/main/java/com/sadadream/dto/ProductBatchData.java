@@ -0,0 +1,16 @@
+package com.sadadream.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductBatchData {
+    private final List<ProductResultData> products;
+
+    private final List<Long> missingIds;
+}
@@ -4,8 +4,7 @@ import java.util.List;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
-
-import com.github.dozermapper.core.Mapping;
+import javax.validation.constraints.PositiveOrZero;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,27 +19,21 @@ import lombok.Setter;
 @AllArgsConstructor
 public class ProductData {
     @NotBlank
-    @Mapping("brand")
     private String brand;
 
     @NotBlank
-    @Mapping("name")
     private String name;
 
     @NotNull
-    @Mapping("price")
-    private String price;
+    @PositiveOrZero
+    private Long price;
 
     @NotNull
-    @Mapping("currency")
     private String currency;
 
-    @Mapping("imageLink")
     private List<String> imageLink;
 
-    @Mapping("description")
     private String description;
 
-    @Mapping("category")
     private String category;
 }
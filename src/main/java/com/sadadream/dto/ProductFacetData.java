@@ -0,0 +1,18 @@
+package com.sadadream.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductFacetData {
+    private final Map<String, Long> category;
+
+    private final Map<String, Long> brand;
+
+    private final Map<String, Long> currency;
+}
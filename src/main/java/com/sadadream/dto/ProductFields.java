@@ -0,0 +1,40 @@
+package com.sadadream.dto;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * fields 파라미터로 고른 상품 응답 속성. 아이디는 항상 포함하고,
+ * 아무 속성도 고르지 않으면 모든 속성을 직렬화한다.
+ */
+public class ProductFields {
+    public static final String FILTER_ID = "productFields";
+
+    public static final String PARAMETER = "fields";
+
+    private static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+        .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+    private ProductFields() {
+    }
+
+    public static FilterProvider filterOf(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL_FIELDS;
+        }
+
+        Set<String> names = Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+        names.add("id");
+
+        return new SimpleFilterProvider()
+            .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names));
+    }
+}
@@ -0,0 +1,22 @@
+package com.sadadream.dto;
+
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductIdsData {
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull Long> ids;
+}
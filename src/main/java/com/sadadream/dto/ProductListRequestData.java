@@ -0,0 +1,49 @@
+package com.sadadream.dto;
+
+import java.util.List;
+
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.PositiveOrZero;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductListRequestData {
+    private String after;
+
+    @Builder.Default
+    private int limit = 20;
+
+    @Builder.Default
+    @Pattern(regexp = "id|price")
+    private String sort = "id";
+
+    @PositiveOrZero
+    private Long minPrice;
+
+    @PositiveOrZero
+    private Long maxPrice;
+
+    /**
+     * 응답에 담을 상품 속성. 비어 있으면 모든 속성을 담는다.
+     */
+    private List<String> fields;
+
+    public boolean isSortedByPrice() {
+        return "price".equals(sort);
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean hasFields() {
+        return fields != null && !fields.isEmpty();
+    }
+}
@@ -0,0 +1,16 @@
+package com.sadadream.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductPageData {
+    private final List<ProductSummaryData> products;
+
+    private final String nextCursor;
+}
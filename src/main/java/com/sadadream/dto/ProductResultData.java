@@ -0,0 +1,36 @@
+package com.sadadream.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonFilter(ProductFields.FILTER_ID)
+@AllArgsConstructor
+public class ProductResultData {
+    private final Long id;
+
+    private final String brand;
+
+    private final String name;
+
+    private final Long price;
+
+    private final String currency;
+
+    private final List<String> imageLink;
+
+    private final String description;
+
+    private final String category;
+
+    private final LocalDateTime createdAt;
+
+    private final LocalDateTime updateAt;
+}
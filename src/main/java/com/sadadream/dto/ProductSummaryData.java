@@ -0,0 +1,27 @@
+package com.sadadream.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonFilter(ProductFields.FILTER_ID)
+@AllArgsConstructor
+public class ProductSummaryData {
+    private final Long id;
+
+    private final String brand;
+
+    private final String name;
+
+    private final Long price;
+
+    private final String currency;
+
+    private final String thumbnail;
+
+    private final String category;
+}
@@ -0,0 +1,15 @@
+package com.sadadream.dto;
+
+import javax.validation.constraints.NotBlank;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+@ApiModel(description = "토큰 갱신 리퀘스트")
+@Getter
+public class SessionRefreshData {
+    @ApiModelProperty(required = true, value = "리프레시 토큰")
+    @NotBlank
+    private String refreshToken;
+}
@@ -9,4 +9,5 @@ import lombok.Getter;
 @AllArgsConstructor
 public class SessionResponseData {
     private final String accessToken;
+    private final String refreshToken;
 }
@@ -5,8 +5,6 @@ import javax.validation.constraints.Size;
 
 import org.springframework.context.support.GenericXmlApplicationContext;
 
-import com.github.dozermapper.core.Mapping;
-
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,12 +14,9 @@ import lombok.Getter;
 @AllArgsConstructor
 public class UserModificationData {
     @NotBlank
-    @Mapping("name")
     private final String name;
 
-    @Mapping("address")
     private final String address;
 
-    @Mapping("gender")
     private final Gender gender;
 }
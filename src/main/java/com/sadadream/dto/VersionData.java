@@ -0,0 +1,34 @@
+package com.sadadream.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VersionData {
+    /**
+     * 따옴표 없는 버전 값. 응답의 ETag 는 RepresentationVersionAdvice 가 미디어 타입을 더해 만든다.
+     */
+    private final String version;
+
+    private final long lastModified;
+
+    /**
+     * 상품 아이디와 수정 시각으로 버전을 만든다. 캐시된 상품 응답에서 바로 계산할 수 있다.
+     */
+    public static VersionData of(Long id, LocalDateTime updateAt) {
+        long lastModified = epochMillis(updateAt);
+
+        return new VersionData(id + "-" + lastModified, lastModified);
+    }
+
+    public static long epochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return -1;
+        }
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,7 @@
+package com.sadadream.errors;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("Too many password hashing requests - try again later");
+    }
+}
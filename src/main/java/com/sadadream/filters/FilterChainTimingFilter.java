@@ -0,0 +1,72 @@
+package com.sadadream.filters;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpFilter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 보안 필터 체인의 처음과 끝에 하나씩 두어, 요청이 컨트롤러에 닿기 전까지 필터에서 보낸 시간을 공개 경로와 보호 경로로 나누어 기록한다.
+ */
+public class FilterChainTimingFilter extends HttpFilter {
+    private static final String STARTED_AT = FilterChainTimingFilter.class.getName() + ".STARTED_AT";
+
+    private final Timer publicTimer;
+    private final Timer protectedTimer;
+    private final RequestMatcher publicRequests;
+
+    private FilterChainTimingFilter(Timer publicTimer, Timer protectedTimer, RequestMatcher publicRequests) {
+        this.publicTimer = publicTimer;
+        this.protectedTimer = protectedTimer;
+        this.publicRequests = publicRequests;
+    }
+
+    public static FilterChainTimingFilter start() {
+        return new FilterChainTimingFilter(null, null, null);
+    }
+
+    public static FilterChainTimingFilter stop(MeterRegistry meterRegistry, RequestMatcher publicRequests) {
+        return new FilterChainTimingFilter(
+            timer(meterRegistry, "public"), timer(meterRegistry, "protected"), publicRequests);
+    }
+
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            if (publicRequests == null) {
+                request.setAttribute(STARTED_AT, System.nanoTime());
+            } else {
+                record(request);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void record(HttpServletRequest request) {
+        Object startedAt = request.getAttribute(STARTED_AT);
+        if (startedAt == null) {
+            return;
+        }
+
+        Timer timer = publicRequests.matches(request) ? publicTimer : protectedTimer;
+        timer.record(System.nanoTime() - (long) startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String route) {
+        return Timer.builder("http.server.security.filter-chain")
+            .description("Time spent in the security filter chain before reaching the controller")
+            .tag("route", route)
+            .register(meterRegistry);
+    }
+}
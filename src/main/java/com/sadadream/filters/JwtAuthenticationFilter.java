@@ -1,7 +1,6 @@
 package com.sadadream.filters;
 
 import java.io.IOException;
-import java.util.List;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -9,21 +8,30 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import com.sadadream.application.AuthenticationService;
-import com.sadadream.domain.Role;
-import com.sadadream.security.UserAuthentication;
+import com.sadadream.security.LazySecurityContext;
 
 public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
     private final AuthenticationService authenticationService;
+    private final RequestMatcher publicRequests;
 
-    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, AuthenticationService authenticationService) {
+    public JwtAuthenticationFilter(AuthenticationManager authenticationManager,
+        AuthenticationService authenticationService, RequestMatcher publicRequests) {
         super(authenticationManager);
         this.authenticationService = authenticationService;
+        this.publicRequests = publicRequests;
+    }
+
+    /**
+     * 인증이 필요 없는 요청은 Authorization 헤더가 있더라도 토큰을 해석하지 않는다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicRequests.matches(request);
     }
 
     @Override
@@ -32,13 +40,8 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
         if (authorization != null) {
             String accessToken = authorization.substring("Bearer ".length());
-            Long userId = authenticationService.parseToken(accessToken);
-
-            List<Role> roles = authenticationService.roles(userId);
-            Authentication authentication = new UserAuthentication(userId, roles);
-
-            SecurityContext context = SecurityContextHolder.getContext();
-            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(
+                new LazySecurityContext(() -> authenticationService.authenticate(accessToken)));
         }
         chain.doFilter(request, response);
     }
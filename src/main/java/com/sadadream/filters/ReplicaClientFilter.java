@@ -0,0 +1,39 @@
+package com.sadadream.filters;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpFilter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+
+import com.google.common.hash.Hashing;
+import com.sadadream.infra.ReplicaRoutingDataSource;
+
+/**
+ * Authorization 헤더의 해시를 복제본 라우팅의 클라이언트 키로 지정한다.
+ * 토큰을 해석하지 않는 공개 조회도 같은 클라이언트로 묶이고, 토큰 자체는 라우팅 DataSource 에 남지 않는다.
+ */
+public class ReplicaClientFilter extends HttpFilter {
+    @Override
+    protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws IOException, ServletException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.setClient(
+            Hashing.sha256().hashString(authorization, StandardCharsets.UTF_8).toString());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clearClient();
+        }
+    }
+}
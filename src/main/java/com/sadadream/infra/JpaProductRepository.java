@@ -1,20 +1,66 @@
 package com.sadadream.infra;
 
 import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductFacetCount;
 import com.sadadream.domain.ProductRepository;
+import com.sadadream.domain.ProductSummary;
+import com.sadadream.domain.ProductVersion;
 
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface JpaProductRepository
-        extends ProductRepository, CrudRepository<Product, Long> {
+        extends ProductRepository, JpaRepository<Product, Long>, ProductSummaryQueries {
     List<Product> findAll();
 
+    List<Product> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
+    @Query("select p.id as id, p.brand as brand, p.name as name, p.price as price, "
+        + "p.currency as currency, p.category as category, p.imageLink as imageLink "
+        + "from Product p where p.id in :ids")
+    List<ProductSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    List<ProductSummary> findSummariesByIdIn(Collection<Long> ids, Collection<String> properties);
+
+    @Query("select p.category as category, p.brand as brand, p.currency as currency, count(p) as count "
+        + "from Product p group by p.category, p.brand, p.currency")
+    List<ProductFacetCount> countByFacets();
+
+    @Query("select p.id as id, p.price as price, p.updateAt as updateAt "
+        + "from Product p where p.id > :id order by p.id")
+    List<ProductVersion> findVersionsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query("select p.id as id, p.price as price, p.updateAt as updateAt "
+        + "from Product p where p.id > :id and p.price between :minPrice and :maxPrice "
+        + "order by p.id")
+    List<ProductVersion> findVersionsByPriceBetweenAndIdGreaterThan(
+        @Param("minPrice") Long minPrice, @Param("maxPrice") Long maxPrice,
+        @Param("id") Long id, Pageable pageable);
+
+    @Query("select p.id as id, p.price as price, p.updateAt as updateAt "
+        + "from Product p where p.price between :minPrice and :maxPrice "
+        + "and p.price >= :afterPrice and (p.price > :afterPrice or p.id > :afterId) "
+        + "order by p.price, p.id")
+    List<ProductVersion> findVersionsOrderByPrice(
+        @Param("minPrice") Long minPrice, @Param("maxPrice") Long maxPrice,
+        @Param("afterPrice") Long afterPrice, @Param("afterId") Long afterId,
+        Pageable pageable);
+
     Optional<Product> findById(Long id);
 
     Product save(Product product);
 
     void delete(Product product);
+
+    <S extends Product> List<S> saveAll(Iterable<S> products);
+
+    void flush();
 }
@@ -0,0 +1,29 @@
+package com.sadadream.infra;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.sadadream.domain.RevokedToken;
+import com.sadadream.domain.RevokedTokenRepository;
+
+public interface JpaRevokedTokenRepository
+        extends RevokedTokenRepository, CrudRepository<RevokedToken, Long> {
+    RevokedToken save(RevokedToken revokedToken);
+
+    @Query("select t.tokenKey from RevokedToken t where t.revokedAt > :revokedAt")
+    List<String> findTokenKeysByRevokedAtAfter(@Param("revokedAt") LocalDateTime revokedAt);
+
+    @Query("select t.tokenKey from RevokedToken t where t.expiresAt > :expiresAt")
+    List<String> findTokenKeysByExpiresAtAfter(@Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt < :expiresAt")
+    int deleteByExpiresAtBefore(@Param("expiresAt") LocalDateTime expiresAt);
+
+    void flush();
+}
@@ -3,19 +3,21 @@ package com.sadadream.infra;
 import com.sadadream.domain.User;
 import com.sadadream.domain.UserRepository;
 
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
 public interface JpaUserRepository
-        extends UserRepository, CrudRepository<User, Long> {
+        extends UserRepository, JpaRepository<User, Long> {
     User save(User user);
 
-    boolean existsByEmail(String email);
-
     Optional<User> findById(Long id);
 
+    User getOne(Long id);
+
     Optional<User> findByIdAndDeletedIsFalse(Long id);
 
     Optional<User> findByEmail(String email);
+
+    void flush();
 }
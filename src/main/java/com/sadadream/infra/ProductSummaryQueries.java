@@ -0,0 +1,10 @@
+package com.sadadream.infra;
+
+import com.sadadream.domain.ProductSummary;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductSummaryQueries {
+    List<ProductSummary> findSummariesByIdIn(Collection<Long> ids, Collection<String> properties);
+}
@@ -0,0 +1,62 @@
+package com.sadadream.infra;
+
+import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductSummary;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import javax.persistence.metamodel.EntityType;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 요청한 속성만 select 절에 넣어 상품 요약을 조회한다. 아이디는 항상 포함한다.
+ * 속성 이름은 Product 메타모델로 확인하므로 존재하지 않는 속성이면 IllegalArgumentException 이 발생한다.
+ */
+public class ProductSummaryQueriesImpl implements ProductSummaryQueries {
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductSummary> findSummariesByIdIn(Collection<Long> ids, Collection<String> properties) {
+        EntityType<Product> product = entityManager.getMetamodel().entity(Product.class);
+
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        selected.addAll(properties);
+        selected.forEach(product::getAttribute);
+
+        String select = selected.stream()
+            .map(property -> "p." + property + " as " + property)
+            .collect(Collectors.joining(", "));
+
+        List<Tuple> tuples = entityManager
+            .createQuery("select " + select + " from Product p where p.id in :ids", Tuple.class)
+            .setParameter("ids", ids)
+            .getResultList();
+
+        return tuples.stream()
+            .map(this::toSummary)
+            .collect(Collectors.toList());
+    }
+
+    private ProductSummary toSummary(Tuple tuple) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return projectionFactory.createProjection(ProductSummary.class, values);
+    }
+}
@@ -0,0 +1,180 @@
+package com.sadadream.infra;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내고, 나머지는 모두 주 데이터베이스로 보낸다.
+ * 복제 지연이 허용치를 넘었거나 지연을 확인하지 못한 복제본은 건너뛰고,
+ * 방금 쓰기를 커밋한 클라이언트의 읽기는 잠시 동안 주 데이터베이스로 보내서 자기가 쓴 내용을 바로 읽게 한다.
+ * 클라이언트는 setClient 로 지정한 키로 구분한다. 키는 토큰처럼 비밀인 값이 아니라 그 해시를 넘긴다.
+ *
+ * 커넥션을 실제로 사용할 때 라우팅해야 트랜잭션의 읽기 전용 여부를 알 수 있으므로,
+ * LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+    private static final ThreadLocal<Boolean> PRIMARY_READS = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<String> CLIENT = new ThreadLocal<>();
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxReplicaLagMillis;
+    private final long stickyMillis;
+    private final String lagQuery;
+    private final LongSupplier clock;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * @param lagQuery 복제 지연을 밀리초로 돌려주는 쿼리. 비어 있으면 지연이 없다고 본다.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+        long maxReplicaLagMillis, long stickyMillis, String lagQuery, LongSupplier clock) {
+        this.maxReplicaLagMillis = maxReplicaLagMillis;
+        this.stickyMillis = stickyMillis;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.clock = clock;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicas.get(i),
+                this.lagQuery == null ? 0 : UNKNOWN_LAG);
+            this.replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 캐시에 채울 값처럼 복제 지연을 허용할 수 없는 읽기를 주 데이터베이스에서 실행한다.
+     * 캐시를 비운 직후 뒤처진 복제본에서 읽은 값이 캐시에 다시 들어가 오래 남는 일을 막는다.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        boolean previous = PRIMARY_READS.get();
+        PRIMARY_READS.set(true);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_READS.set(previous);
+        }
+    }
+
+    /**
+     * 이 스레드에서 실행하는 쿼리를 보낸 클라이언트를 지정한다. 요청이 끝나면 clearClient 로 지운다.
+     */
+    public static void setClient(String clientKey) {
+        CLIENT.set(clientKey);
+    }
+
+    public static void clearClient() {
+        CLIENT.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWrite();
+            return PRIMARY;
+        }
+
+        if (PRIMARY_READS.get()) {
+            return PRIMARY;
+        }
+
+        String client = CLIENT.get();
+        if (client != null && isSticky(client)) {
+            return PRIMARY;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.lagMillis <= maxReplicaLagMillis) {
+                return replica.key;
+            }
+        }
+
+        return PRIMARY;
+    }
+
+    /**
+     * 복제본마다 지연을 다시 잰다. 확인하지 못한 복제본은 다음 확인 때까지 사용하지 않는다.
+     */
+    public void probeReplicaLag() {
+        if (lagQuery != null) {
+            for (Replica replica : replicas) {
+                replica.lagMillis = queryLag(replica.dataSource);
+            }
+        }
+
+        long now = clock.getAsLong();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= stickyMillis);
+    }
+
+    private long queryLag(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? resultSet.getLong(1) : UNKNOWN_LAG;
+        } catch (SQLException e) {
+            return UNKNOWN_LAG;
+        }
+    }
+
+    private boolean isSticky(String client) {
+        Long writtenAt = lastWrites.get(client);
+        return writtenAt != null && clock.getAsLong() - writtenAt < stickyMillis;
+    }
+
+    private void rememberWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        String client = CLIENT.get();
+        if (client == null) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrites.put(client, clock.getAsLong());
+            }
+        });
+    }
+
+    private static class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile long lagMillis;
+
+        private Replica(String key, DataSource dataSource, long lagMillis) {
+            this.key = key;
+            this.dataSource = dataSource;
+            this.lagMillis = lagMillis;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.sadadream.mappers;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import com.sadadream.domain.Product;
+import com.sadadream.dto.ProductData;
+import com.sadadream.dto.ProductResultData;
+
+@Mapper(
+    unmappedSourcePolicy = ReportingPolicy.ERROR,
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface ProductMapper {
+    Product toProduct(ProductData productData);
+
+    @BeanMapping(ignoreUnmappedSourceProperties = "user")
+    ProductResultData toProductResultData(Product product);
+}
@@ -0,0 +1,18 @@
+package com.sadadream.mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import com.sadadream.domain.User;
+import com.sadadream.dto.UserModificationData;
+import com.sadadream.dto.UserRegistrationData;
+
+@Mapper(
+    unmappedSourcePolicy = ReportingPolicy.ERROR,
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface UserMapper {
+    User toUser(UserRegistrationData registrationData);
+
+    User toUser(UserModificationData modificationData);
+}
@@ -0,0 +1,75 @@
+package com.sadadream.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글(CJK)은 띄어쓰기와 조사 때문에 단어 단위로 나누기 어려우므로 두 글자씩 겹쳐서(bi-gram) 자르고,
+ * 그 외의 영문/숫자는 단어 단위로 자른다.
+ * 예: "나이키 에어맥스90" -> [나이, 이키, 에어, 어맥, 맥스, 90]
+ */
+public class BigramTokenizer {
+    private BigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT);
+
+        StringBuilder run = new StringBuilder();
+        boolean cjkRun = false;
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                emit(run, cjkRun, tokens);
+                continue;
+            }
+
+            boolean cjk = isCjk(codePoint);
+            if (run.length() > 0 && cjk != cjkRun) {
+                emit(run, cjkRun, tokens);
+            }
+            cjkRun = cjk;
+            run.appendCodePoint(codePoint);
+        }
+        emit(run, cjkRun, tokens);
+
+        return tokens;
+    }
+
+    private static void emit(StringBuilder run, boolean cjk, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+
+        int length = run.codePointCount(0, run.length());
+        if (!cjk || length == 1) {
+            tokens.add(run.toString());
+        } else {
+            for (int i = 0; i < length - 1; i++) {
+                int start = run.offsetByCodePoints(0, i);
+                int end = run.offsetByCodePoints(start, 2);
+                tokens.add(run.substring(start, end));
+            }
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+            || script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA;
+    }
+}
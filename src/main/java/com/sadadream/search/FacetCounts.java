@@ -0,0 +1,84 @@
+package com.sadadream.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 패싯 값의 조합별 문서 수를 메모리에 유지한다.
+ * 각 패싯의 개수는 나머지 패싯의 필터만 적용해서 세므로, 선택한 값 외의 다른 값도 함께 보여줄 수 있다.
+ */
+public class FacetCounts {
+    private final int dimensions;
+    private final Map<List<String>, Long> counts = new ConcurrentHashMap<>();
+
+    public FacetCounts(int dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    public void add(List<String> values, long delta) {
+        if (values.size() != dimensions) {
+            throw new IllegalArgumentException(
+                "Expected " + dimensions + " facet values but got " + values.size());
+        }
+
+        counts.compute(Arrays.asList(values.toArray(new String[0])), (key, count) -> {
+            long next = (count == null ? 0 : count) + delta;
+            return next > 0 ? next : null;
+        });
+    }
+
+    /**
+     * 패싯별로 값과 문서 수를 문서 수가 많은 순서로 반환한다.
+     * filters 의 null 항목은 해당 패싯을 거르지 않는다는 뜻이다.
+     */
+    public List<Map<String, Long>> count(List<String> filters) {
+        List<Map<String, Long>> result = new ArrayList<>(dimensions);
+        for (int i = 0; i < dimensions; i++) {
+            result.add(new HashMap<>());
+        }
+
+        for (Map.Entry<List<String>, Long> entry : counts.entrySet()) {
+            List<String> values = entry.getKey();
+
+            int mismatch = -1;
+            boolean excluded = false;
+            for (int i = 0; i < dimensions; i++) {
+                String filter = filters.get(i);
+                if (filter == null || filter.equals(values.get(i))) {
+                    continue;
+                }
+                if (mismatch >= 0) {
+                    excluded = true;
+                    break;
+                }
+                mismatch = i;
+            }
+            if (excluded) {
+                continue;
+            }
+
+            for (int i = 0; i < dimensions; i++) {
+                if ((mismatch < 0 || mismatch == i) && values.get(i) != null) {
+                    result.get(i).merge(values.get(i), entry.getValue(), Long::sum);
+                }
+            }
+        }
+
+        List<Map<String, Long>> sorted = new ArrayList<>(dimensions);
+        for (Map<String, Long> facet : result) {
+            Map<String, Long> values = new LinkedHashMap<>();
+            facet.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> values.put(entry.getKey(), entry.getValue()));
+            sorted.add(values);
+        }
+        return sorted;
+    }
+}
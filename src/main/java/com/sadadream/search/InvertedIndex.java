@@ -0,0 +1,261 @@
+package com.sadadream.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BM25 로 순위를 매기는 메모리 역색인.
+ * 포스팅 리스트는 문서 번호와 빈도를 int 배열로 저장하고, 삭제된 문서는 비트셋으로 표시해 두었다가
+ * 살아있는 문서보다 많아지면 압축한다. 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public class InvertedIndex<T> {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_COMPACTION_SIZE = 1024;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> documentsByKey = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private Object[] documents = new Object[16];
+    private int[] lengths = new int[16];
+
+    private int documentCount;
+    private int deletedCount;
+    private long totalLength;
+
+    public void put(long key, T document, List<String> terms) {
+        remove(key);
+
+        int doc = documentCount++;
+        ensureCapacity(documentCount);
+        documents[doc] = document;
+        lengths[doc] = terms.size();
+        totalLength += terms.size();
+        documentsByKey.put(key, doc);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        frequencies.forEach((term, frequency) ->
+            postings.computeIfAbsent(term, ignored -> new Postings()).add(doc, frequency));
+    }
+
+    public void remove(long key) {
+        Integer doc = documentsByKey.remove(key);
+        if (doc == null) {
+            return;
+        }
+
+        deleted.set(doc);
+        documents[doc] = null;
+        totalLength -= lengths[doc];
+        deletedCount++;
+
+        if (deletedCount >= MIN_COMPACTION_SIZE && deletedCount > size()) {
+            compact();
+        }
+    }
+
+    public int size() {
+        return documentCount - deletedCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<T> search(List<String> terms, int limit) {
+        int size = size();
+        if (size == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        float averageLength = (float) totalLength / size;
+        float baseNorm = K1 * (1 - B);
+        float lengthNorm = K1 * B / averageLength;
+        boolean hasDeleted = deletedCount > 0;
+        float[] scores = new float[documentCount];
+        int[] touched = new int[16];
+        int touchedCount = 0;
+
+        for (String term : new LinkedHashSet<>(terms)) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+
+            int documentFrequency = Math.min(list.size, size);
+            float idf = (float) Math.log(
+                1 + (size - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+            for (int i = 0; i < list.size; i++) {
+                int doc = list.docs[i];
+                if (hasDeleted && deleted.get(doc)) {
+                    continue;
+                }
+
+                int frequency = list.frequencies[i];
+                float norm = baseNorm + lengthNorm * lengths[doc];
+                if (scores[doc] == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = doc;
+                }
+                scores[doc] += idf * frequency * (K1 + 1) / (frequency + norm);
+            }
+        }
+
+        TopDocuments top = new TopDocuments(Math.min(limit, touchedCount), scores);
+        for (int i = 0; i < touchedCount; i++) {
+            top.offer(touched[i]);
+        }
+
+        int[] docs = top.sorted();
+        List<T> results = new ArrayList<>(docs.length);
+        for (int doc : docs) {
+            results.add((T) documents[doc]);
+        }
+
+        return results;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= documents.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, documents.length * 2);
+        documents = Arrays.copyOf(documents, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+    }
+
+    private void compact() {
+        int[] remap = new int[documentCount];
+        int next = 0;
+
+        for (int doc = 0; doc < documentCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = next;
+            documents[next] = documents[doc];
+            lengths[next] = lengths[doc];
+            next++;
+        }
+        Arrays.fill(documents, next, documentCount, null);
+
+        postings.values().removeIf(list -> list.compact(remap) == 0);
+        documentsByKey.replaceAll((key, doc) -> remap[doc]);
+
+        deleted.clear();
+        documentCount = next;
+        deletedCount = 0;
+    }
+
+    /**
+     * 점수가 높은 문서 limit 개를 고르는 최소 힙. 문서 번호를 박싱하지 않기 위해 int 배열로 구현한다.
+     */
+    private static class TopDocuments {
+        private final int[] heap;
+        private final float[] scores;
+        private int size;
+
+        private TopDocuments(int capacity, float[] scores) {
+            this.heap = new int[capacity];
+            this.scores = scores;
+        }
+
+        private void offer(int doc) {
+            if (size < heap.length) {
+                heap[size] = doc;
+                siftUp(size++);
+            } else if (heap.length > 0 && scores[doc] > scores[heap[0]]) {
+                heap[0] = doc;
+                siftDown(0, size);
+            }
+        }
+
+        private int[] sorted() {
+            int[] docs = new int[size];
+            for (int end = size; end > 0; end--) {
+                docs[end - 1] = heap[0];
+                heap[0] = heap[end - 1];
+                siftDown(0, end - 1);
+            }
+            return docs;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (scores[heap[parent]] <= scores[heap[index]]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index, int end) {
+            while (true) {
+                int smallest = index;
+                int left = index * 2 + 1;
+                int right = left + 1;
+                if (left < end && scores[heap[left]] < scores[heap[smallest]]) {
+                    smallest = left;
+                }
+                if (right < end && scores[heap[right]] < scores[heap[smallest]]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int left, int right) {
+            int doc = heap[left];
+            heap[left] = heap[right];
+            heap[right] = doc;
+        }
+    }
+
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private int compact(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc < 0) {
+                    continue;
+                }
+                docs[next] = doc;
+                frequencies[next] = frequencies[i];
+                next++;
+            }
+            size = next;
+            return size;
+        }
+    }
+}
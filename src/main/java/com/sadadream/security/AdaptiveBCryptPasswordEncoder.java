@@ -0,0 +1,103 @@
+package com.sadadream.security;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 정해진 비용으로 BCrypt 해시를 만들고, 최소 비용보다 약한 해시는 다시 만들어야 한다고 알려준다.
+ * 해시 문자열에 비용이 함께 기록되므로 예전 비용의 해시도 그대로 검증할 수 있다.
+ * 더 강한 비용의 해시는 낮추지 않는다.
+ */
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+    private static final Pattern BCRYPT_PATTERN =
+        Pattern.compile("\\A\\$2(a|y|b)?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int strength;
+    private final int minimumStrength;
+    private final BCryptPasswordEncoder delegate;
+
+    /**
+     * 비용을 고정한다. 이 비용보다 약한 해시는 모두 다시 만든다.
+     */
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        this(strength, strength);
+    }
+
+    AdaptiveBCryptPasswordEncoder(int strength, int minimumStrength) {
+        this.strength = strength;
+        this.minimumStrength = minimumStrength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 이 장비에서 해시 하나를 만드는 시간이 목표 시간을 넘지 않는 가장 큰 비용을 고른다.
+     * 비용이 1 오를 때마다 시간이 두 배가 되므로, 다음 비용이 목표를 넘을 것 같으면 멈춘다.
+     * 측정이 흔들려 비용이 한 단계 오르내려도 모든 해시를 다시 만들지 않도록, 고른 비용보다
+     * 한 단계 낮은 해시까지는 그대로 둔다.
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrate(
+        Duration target, int minStrength, int maxStrength
+    ) {
+        if (minStrength < MIN_STRENGTH || maxStrength > MAX_STRENGTH || minStrength > maxStrength) {
+            throw new IllegalArgumentException(
+                "Invalid BCrypt strength range: " + minStrength + ".." + maxStrength);
+        }
+
+        measure(MIN_STRENGTH);
+
+        int strength = minStrength;
+        long elapsed = measure(strength);
+        while (strength < maxStrength && elapsed * 2 <= target.toNanos()) {
+            strength++;
+            elapsed = measure(strength);
+        }
+
+        return new AdaptiveBCryptPasswordEncoder(strength, Math.max(minStrength, strength - 1));
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public int getMinimumStrength() {
+        return minimumStrength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+
+        return Integer.parseInt(matcher.group(2)) < minimumStrength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,72 @@
+package com.sadadream.security;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 제한에 쓸 클라이언트 주소를 찾는다. 신뢰하는 프록시에서 온 요청일 때만 전달 헤더를 믿는다.
+ * X-Real-IP 는 nginx 가 자기에게 직접 연결한 주소로 채우므로 그대로 쓰고, X-Forwarded-For 는
+ * 클라이언트가 앞부분을 마음대로 채울 수 있으므로 오른쪽부터 신뢰하지 않는 첫 주소를 쓴다.
+ */
+@Component
+public class ClientIpResolver {
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9A-Fa-f:.]+");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    /**
+     * @param trustedProxies 신뢰하는 프록시의 주소나 CIDR 대역
+     */
+    public ClientIpResolver(
+        @Value("${login-throttle.trusted-proxies:127.0.0.1,::1}") String[] trustedProxies
+    ) {
+        this.trustedProxies = Arrays.stream(trustedProxies)
+            .map(String::trim)
+            .filter(proxy -> !proxy.isEmpty())
+            .map(IpAddressMatcher::new)
+            .collect(Collectors.toList());
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String realIp = request.getHeader("X-Real-IP");
+        if (realIp != null && !realIp.isBlank()) {
+            return realIp.trim();
+        }
+
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!hop.isEmpty() && !isTrusted(hop)) {
+                    return hop;
+                }
+            }
+        }
+
+        return remoteAddr;
+    }
+
+    /**
+     * 주소 형식이 아닌 값은 IpAddressMatcher 가 호스트 이름으로 조회하지 않도록 미리 걸러낸다.
+     */
+    private boolean isTrusted(String address) {
+        if (address == null || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        return trustedProxies.stream().anyMatch(proxy -> proxy.matches(address));
+    }
+}
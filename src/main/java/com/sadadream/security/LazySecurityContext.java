@@ -0,0 +1,35 @@
+package com.sadadream.security;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+
+/**
+ * 인증 정보가 처음 필요해질 때 만들어지는 보안 컨텍스트.
+ * 권한 검사나 인증 정보 주입이 없는 요청에서는 토큰을 해석하지 않는다.
+ */
+public class LazySecurityContext implements SecurityContext {
+    private transient Supplier<Authentication> supplier;
+    private Authentication authentication;
+
+    public LazySecurityContext(Supplier<Authentication> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public synchronized Authentication getAuthentication() {
+        if (supplier != null) {
+            Supplier<Authentication> pending = supplier;
+            supplier = null;
+            authentication = pending.get();
+        }
+        return authentication;
+    }
+
+    @Override
+    public synchronized void setAuthentication(Authentication authentication) {
+        this.supplier = null;
+        this.authentication = authentication;
+    }
+}
@@ -0,0 +1,48 @@
+package com.sadadream.security;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sadadream.errors.LoginThrottledException;
+
+/**
+ * 로그인 시도를 클라이언트 IP 와 이메일별로 제한한다.
+ * 비밀번호 해시나 사용자 조회보다 먼저 확인해서, 몰려드는 시도가 그 비용으로 이어지지 않게 한다.
+ */
+@Component
+public class LoginThrottle {
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter emailLimiter;
+
+    public LoginThrottle(
+        @Value("${login-throttle.stripes:65536}") int stripes,
+        @Value("${login-throttle.ip-permits:30}") int ipPermits,
+        @Value("${login-throttle.email-permits:5}") int emailPermits,
+        @Value("${login-throttle.period-seconds:60}") long periodSeconds
+    ) {
+        Duration period = Duration.ofSeconds(periodSeconds);
+        this.ipLimiter = new TokenBucketLimiter(stripes, ipPermits, period, System::currentTimeMillis);
+        this.emailLimiter = new TokenBucketLimiter(stripes, emailPermits, period, System::currentTimeMillis);
+    }
+
+    public void check(String email, String clientIp) {
+        reject(ipLimiter.tryAcquire(clientIp));
+        reject(emailLimiter.tryAcquire(String.valueOf(email).toLowerCase(Locale.ROOT)));
+    }
+
+    @Scheduled(fixedDelayString = "${login-throttle.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        ipLimiter.evictIdle();
+        emailLimiter.evictIdle();
+    }
+
+    private void reject(long waitMillis) {
+        if (waitMillis > 0) {
+            throw new LoginThrottledException(Math.max(1, (waitMillis + 999) / 1000));
+        }
+    }
+}
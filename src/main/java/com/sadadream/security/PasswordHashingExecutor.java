@@ -0,0 +1,98 @@
+package com.sadadream.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sadadream.errors.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 비밀번호 해시 계산처럼 CPU 를 오래 쓰는 작업을 코어 수만큼의 스레드에서만 실행한다.
+ * 대기열이 가득 차면 작업을 쌓아 두지 않고 바로 거절해서, 몰린 요청이 모든 요청을 느리게 만들지 않게 한다.
+ * 해시 계산만 넘기고, 트랜잭션과 데이터베이스 작업은 호출한 스레드에 남긴다.
+ */
+@Component
+public class PasswordHashingExecutor {
+    private final ThreadPoolExecutor executor;
+    private final Timer duration;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(
+        MeterRegistry meterRegistry,
+        @Value("${password-hashing.threads:0}") int threads,
+        @Value("${password-hashing.queue-capacity:64}") int queueCapacity
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new PasswordHashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.duration = Timer.builder("password.hashing.task.duration")
+            .description("Time spent running a task on a password hashing thread")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected")
+            .description("Password hashing tasks rejected because the queue was full")
+            .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+            .description("Password hashing tasks waiting for a thread")
+            .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashing tasks currently running")
+            .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> duration.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    /**
+     * 해시 스레드에서 작업을 실행하고 끝날 때까지 기다린다. 작업이 던진 예외는 그대로 다시 던진다.
+     */
+    public <T> T call(Supplier<T> task) {
+        try {
+            return submit(task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class PasswordHashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
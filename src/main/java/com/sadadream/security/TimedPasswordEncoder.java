@@ -0,0 +1,44 @@
+package com.sadadream.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 비밀번호 해시를 만들고 검증하는 시간만 기록한다.
+ * 해시 스레드를 기다리는 시간까지 포함한 작업 시간은 password.hashing.task.duration 에 남는다.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final Timer encodeDuration;
+    private final Timer matchesDuration;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeDuration = timer(meterRegistry, "encode");
+        this.matchesDuration = timer(meterRegistry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeDuration.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matchesDuration.record(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing.duration")
+            .description("Time spent computing a password hash")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+}
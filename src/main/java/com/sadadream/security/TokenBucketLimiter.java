@@ -0,0 +1,92 @@
+package com.sadadream.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * 키별 토큰 버킷을 고정 크기 배열에 나누어 담는 요청 제한기.
+ * 버킷은 토큰이 가득 차는 시각 하나로 표현하고(GCRA), 키의 지문과 함께 long 하나에 담아 CAS 로만 갱신한다.
+ * 키가 아무리 많아도 메모리는 배열 크기로 고정되며, 같은 칸에 걸린 키는 한쪽 버킷이 가득 차 있을 때 칸을 넘겨받는다.
+ * 둘 다 사용 중이면 버킷을 함께 쓰므로 제한이 느슨해지지는 않는다.
+ */
+public class TokenBucketLimiter {
+    private static final int TIME_BITS = 48;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+
+    private final AtomicLongArray buckets;
+    private final int mask;
+    private final long interval;
+    private final long tolerance;
+    private final LongSupplier clock;
+    private final long origin;
+
+    /**
+     * @param stripes 버킷 칸 수. 2의 거듭제곱으로 올림한다.
+     * @param permits period 동안 허용할 요청 수이자 한꺼번에 허용할 수 있는 요청 수
+     * @param clock 밀리초 단위 현재 시각
+     */
+    public TokenBucketLimiter(int stripes, int permits, Duration period, LongSupplier clock) {
+        if (stripes < 1 || permits < 1 || period.toMillis() < permits) {
+            throw new IllegalArgumentException(
+                "Invalid limit: " + permits + " per " + period + " over " + stripes + " stripes");
+        }
+
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.buckets = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.interval = period.toMillis() / permits;
+        this.tolerance = interval * permits;
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+    }
+
+    /**
+     * 요청 하나를 허용하면 0을, 거절하면 다시 시도할 수 있을 때까지 남은 밀리초를 반환한다.
+     */
+    public long tryAcquire(String key) {
+        long hash = Hashing.murmur3_128().hashString(key, StandardCharsets.UTF_8).asLong();
+        int index = (int) hash & mask;
+        long fingerprint = (hash >>> TIME_BITS) | 1;
+        long now = now();
+
+        while (true) {
+            long state = buckets.get(index);
+            long full = state & TIME_MASK;
+            boolean owned = state != 0 && (state >>> TIME_BITS) == fingerprint;
+            long start = owned || full > now ? Math.max(full, now) : now;
+
+            long next = start + interval;
+            if (next - now > tolerance) {
+                return next - now - tolerance;
+            }
+            if (buckets.compareAndSet(index, state, fingerprint << TIME_BITS | next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 버킷을 비운다. 비운 칸은 어느 키든 새로 차지할 수 있다.
+     */
+    public void evictIdle() {
+        long now = now();
+        for (int i = 0; i < buckets.length(); i++) {
+            long state = buckets.get(i);
+            if (state != 0 && (state & TIME_MASK) <= now) {
+                buckets.compareAndSet(i, state, 0);
+            }
+        }
+    }
+
+    int size() {
+        return buckets.length();
+    }
+
+    private long now() {
+        return clock.getAsLong() - origin;
+    }
+}
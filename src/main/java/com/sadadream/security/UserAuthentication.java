@@ -11,9 +11,16 @@ import com.sadadream.domain.Role;
 
 public class UserAuthentication extends AbstractAuthenticationToken {
 	private final Long userId;
+	private final String sessionId;
+
 	public UserAuthentication(Long userId, List<Role> roles) {
+		this(userId, null, roles);
+	}
+
+	public UserAuthentication(Long userId, String sessionId, List<Role> roles) {
 		super(authorities(userId, roles));
 		this.userId = userId;
+		this.sessionId = sessionId;
 	}
 
 	@Override
@@ -35,6 +42,10 @@ public class UserAuthentication extends AbstractAuthenticationToken {
 		return this.userId;
 	}
 
+	public String getSessionId() {
+		return this.sessionId;
+	}
+
 	@Override
 	public String toString() {
 		return "Authentication: userID -> (" + userId + ")";
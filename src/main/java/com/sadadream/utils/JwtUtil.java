@@ -1,44 +1,172 @@
 package com.sadadream.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.sadadream.errors.InvalidTokenException;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Clock;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
+    private static final long MAX_VERIFIED_TOKENS = 10_000;
+    private static final long VERIFIED_TOKEN_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long DEFAULT_ACCESS_TOKEN_TTL_SECONDS = 900;
+    private static final long DEFAULT_REFRESH_TOKEN_TTL_SECONDS = 1_209_600;
+
+    public static final String SESSION_ID = "sid";
+    public static final String TOKEN_TYPE = "typ";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final Key key;
+    private final Clock clock;
+    private final JwtParser parser;
+    private final long accessTokenTtlMillis;
+    private final long refreshTokenTtlMillis;
+
+    /**
+     * 서명을 검증한 토큰의 클레임을 토큰 다이제스트로 기억해 두어,
+     * 같은 토큰이 다시 오면 서명 검증과 클레임 파싱을 건너뛴다.
+     * 토큰에 만료 시각이 있으면 그 시각 이후로는 캐시에 남지 않는다.
+     */
+    private final Cache<HashCode, Claims> verifiedTokens;
+
+    @Autowired
+    public JwtUtil(
+        @Value("${jwt.secret}") String secret,
+        @Value("${jwt.access-token-ttl-seconds:900}") long accessTokenTtlSeconds,
+        @Value("${jwt.refresh-token-ttl-seconds:1209600}") long refreshTokenTtlSeconds
+    ) {
+        this(secret, accessTokenTtlSeconds, refreshTokenTtlSeconds, Date::new);
+    }
+
+    public JwtUtil(String secret) {
+        this(secret, Date::new);
+    }
+
+    JwtUtil(String secret, Clock clock) {
+        this(secret, DEFAULT_ACCESS_TOKEN_TTL_SECONDS, DEFAULT_REFRESH_TOKEN_TTL_SECONDS, clock);
+    }
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
-        key = Keys.hmacShaKeyFor(secret.getBytes());
+    JwtUtil(String secret, long accessTokenTtlSeconds, long refreshTokenTtlSeconds, Clock clock) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.clock = clock;
+        this.accessTokenTtlMillis = TimeUnit.SECONDS.toMillis(accessTokenTtlSeconds);
+        this.refreshTokenTtlMillis = TimeUnit.SECONDS.toMillis(refreshTokenTtlSeconds);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setClock(clock)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(MAX_VERIFIED_TOKENS)
+                .expireAfter(new VerifiedTokenExpiry())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.now().getTime()))
+                .build();
     }
 
-    public String encode(Long userId) {
+    /**
+     * 짧게 유효한 액세스 토큰을 발행한다. 같은 세션의 리프레시 토큰과 세션 아이디를 공유하므로
+     * 세션을 폐기하면 두 토큰이 함께 무효가 된다.
+     */
+    public String encode(Long userId, List<String> roles, String sessionId) {
+        Date now = clock.now();
         return Jwts.builder()
                 .claim("userId", userId)
+                .claim("roles", String.join(",", roles))
+                .claim(SESSION_ID, sessionId)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + accessTokenTtlMillis))
                 .signWith(key)
                 .compact();
     }
 
+    public String encodeRefreshToken(Long userId, String sessionId) {
+        Date now = clock.now();
+        return Jwts.builder()
+                .claim("userId", userId)
+                .claim(SESSION_ID, sessionId)
+                .claim(TOKEN_TYPE, REFRESH_TOKEN_TYPE)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + refreshTokenTtlMillis))
+                .signWith(key)
+                .compact();
+    }
+
+    public String newSessionId() {
+        return UUID.randomUUID().toString();
+    }
+
+    public long getAccessTokenTtlMillis() {
+        return accessTokenTtlMillis;
+    }
+
+    public long getRefreshTokenTtlMillis() {
+        return refreshTokenTtlMillis;
+    }
+
     public Claims decode(String token) {
         if (token == null || token.isBlank()) {
             throw new InvalidTokenException(token);
         }
 
+        HashCode digest = Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims != null) {
+            return claims;
+        }
+
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (SignatureException e) {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException e) {
             throw new InvalidTokenException(token);
         }
+
+        verifiedTokens.put(digest, claims);
+
+        return claims;
+    }
+
+    private class VerifiedTokenExpiry implements Expiry<HashCode, Claims> {
+        @Override
+        public long expireAfterCreate(HashCode digest, Claims claims, long currentTime) {
+            long ttl = VERIFIED_TOKEN_TTL_MILLIS;
+
+            Date expiration = claims.getExpiration();
+            if (expiration != null) {
+                ttl = Math.min(ttl, expiration.getTime() - clock.now().getTime());
+            }
+
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(ttl, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(HashCode digest, Claims claims, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(digest, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(HashCode digest, Claims claims, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
     }
 }
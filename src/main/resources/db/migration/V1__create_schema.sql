@@ -1,19 +1,21 @@
-create table if not exists role
+-- 기존 database/production/schema.sql 이 처음 만들던 스키마. 이미 그 스크립트로 만든 데이터베이스는
+-- baseline-on-migrate 로 이 버전을 적용된 것으로 기록하고 V2 부터 실행한다.
+-- 이후의 스키마 변경은 모두 V2 이후의 마이그레이션에 있다.
+
+create table role
 (
     id bigint generated by default as identity
-    constraint role_pkey
-    primary key,
+        constraint role_pkey
+            primary key,
     role varchar(255),
     user_id bigint
-    );
-
-alter table role owner to postgres;
+);
 
-create table if not exists "user"
+create table "user"
 (
     id bigint generated by default as identity
-    constraint user_pkey
-    primary key,
+        constraint user_pkey
+            primary key,
     created_at timestamp,
     update_at timestamp,
     address varchar(255),
@@ -24,15 +26,13 @@ create table if not exists "user"
     name varchar(255),
     password varchar(255),
     phone_number varchar(255)
-    );
-
-alter table "user" owner to postgres;
+);
 
-create table if not exists product
+create table product
 (
     id bigint generated by default as identity
-    constraint product_pkey
-    primary key,
+        constraint product_pkey
+            primary key,
     created_at timestamp,
     update_at timestamp,
     brand varchar(255),
@@ -42,18 +42,14 @@ create table if not exists product
     name varchar(255),
     price varchar(255),
     user_id bigint
-    constraint fk979liw4xk18ncpl87u4tygx2u
-    references "user"
-    );
+        constraint fk979liw4xk18ncpl87u4tygx2u
+            references "user"
+);
 
-alter table product owner to postgres;
-
-create table if not exists product_image_link
+create table product_image_link
 (
     product_id bigint not null
-    constraint fk73ess6oitct2ob9wo5n0x35pe
-    references product,
+        constraint fk73ess6oitct2ob9wo5n0x35pe
+            references product,
     image_link varchar(255)
-    );
-
-alter table product_image_link owner to postgres;
+);
@@ -0,0 +1,19 @@
+-- 문자열 가격을 최소 화폐 단위의 정수로 변환하고, 가격 범위 조회와 가격순 정렬에 쓰는 인덱스를 만든다.
+-- 소수 자릿수는 ISO 4217 을 따른다(KRW, JPY 등은 0, BHD, KWD 등은 3, 나머지와 통화가 없는 경우는 2).
+-- 숫자로 읽을 수 없는 가격이 있으면 값을 버리지 않고 마이그레이션을 실패시킨다.
+alter table product add column price_minor bigint;
+
+update product
+set price_minor = cast(round(cast(trim(price) as numeric) * power(10,
+    case
+        when upper(trim(currency)) in ('BIF', 'CLP', 'DJF', 'GNF', 'ISK', 'JPY', 'KMF', 'KRW',
+            'PYG', 'RWF', 'UGX', 'UYI', 'VND', 'VUV', 'XAF', 'XOF', 'XPF') then 0
+        when upper(trim(currency)) in ('BHD', 'IQD', 'JOD', 'KWD', 'LYD', 'OMR', 'TND') then 3
+        else 2
+    end)) as bigint)
+where price is not null;
+
+alter table product drop column price;
+alter table product rename column price_minor to price;
+
+create index product_price_id_idx on product (price, id);
@@ -0,0 +1,2 @@
+-- 가입 시 이메일 중복을 미리 조회하지 않고 이 인덱스로 막는다.
+create unique index user_email_idx on "user" (email);
@@ -0,0 +1,14 @@
+create table revoked_token
+(
+    id bigint generated by default as identity
+        constraint revoked_token_pkey
+            primary key,
+    token_key varchar(255),
+    revoked_at timestamp,
+    expires_at timestamp
+);
+
+-- 같은 세션을 두 번 폐기하지 못하게 해서, 동시에 들어온 갱신 요청 중 하나만 성공시킨다.
+create unique index revoked_token_token_key_idx on revoked_token (token_key);
+create index revoked_token_revoked_at_idx on revoked_token (revoked_at);
+create index revoked_token_expires_at_idx on revoked_token (expires_at);
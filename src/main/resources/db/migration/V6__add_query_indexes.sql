@@ -0,0 +1,9 @@
+-- 인증된 요청마다 실행되는 권한 조회(findAllByUserId)
+create index role_user_id_idx on role (user_id);
+
+-- 사용자 행을 지울 때 외래 키 검사가 상품 테이블 전체를 읽지 않도록 한다.
+create index product_user_id_idx on product (user_id);
+
+-- 패싯 집계(countByFacets)를 테이블 대신 인덱스만 읽어서 처리한다.
+create index product_facets_idx on product (category, brand, currency);
+
@@ -0,0 +1,2 @@
+-- Hibernate 가 만든 해시 이름 대신 엔티티(Product.user)에 적은 이름을 쓴다.
+alter table product rename constraint fk979liw4xk18ncpl87u4tygx2u to product_user_id_fk;
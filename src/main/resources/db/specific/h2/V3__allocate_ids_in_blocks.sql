@@ -0,0 +1,5 @@
+-- 테스트용. H2 는 identity 컬럼의 증가값을 바꿀 수 없고 시퀀스 이름도 시스템이 정하므로,
+-- 엔티티가 쓰는 이름의 시퀀스를 따로 만든다.
+create sequence user_id_seq increment by 50;
+create sequence role_id_seq increment by 50;
+create sequence product_id_seq increment by 50;
@@ -0,0 +1,12 @@
+-- 테스트용. PostgreSQL 의 ctid 대신 H2 의 _rowid_ 로 삽입 순서를 유지한다.
+alter table product add column image_link varchar;
+
+update product p
+set image_link = (
+    select '[' || string_agg('"' || replace(replace(l.image_link, '\', '\\'), '"', '\"') || '"', ','
+        order by l._rowid_) || ']'
+    from product_image_link l
+    where l.product_id = p.id
+);
+
+drop table product_image_link;
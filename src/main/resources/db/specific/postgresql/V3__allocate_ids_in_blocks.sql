@@ -0,0 +1,5 @@
+-- 사용자, 권한, 상품 아이디를 50개 단위로 미리 할당하여 insert 를 한 번의 flush 나 JDBC 배치로 묶는다.
+-- 엔티티의 시퀀스 이름(user_id_seq 등)은 PostgreSQL 이 identity 컬럼에 만든 시퀀스 이름이다.
+alter table "user" alter column id set increment by 50;
+alter table role alter column id set increment by 50;
+alter table product alter column id set increment by 50;
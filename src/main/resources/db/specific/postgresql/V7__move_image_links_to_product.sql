@@ -0,0 +1,13 @@
+-- 상품 이미지 링크를 별도 테이블 대신 product 의 JSON 배열 문자열 컬럼에 저장한다.
+-- 링크 테이블에는 순번 컬럼이 없어, 애플리케이션이 읽어 오던 순서인 물리적 행 순서(ctid)로 합친다.
+alter table product add column image_link varchar;
+
+update product p
+set image_link = (
+    select '[' || string_agg('"' || replace(replace(l.image_link, '\', '\\'), '"', '\"') || '"', ','
+        order by l.ctid) || ']'
+    from product_image_link l
+    where l.product_id = p.id
+);
+
+drop table product_image_link;
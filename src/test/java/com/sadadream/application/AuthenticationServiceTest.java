@@ -2,48 +2,73 @@ package com.sadadream.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.sadadream.domain.RevokedToken;
+import com.sadadream.domain.RevokedTokenRepository;
 import com.sadadream.domain.Role;
 import com.sadadream.domain.RoleRepository;
 import com.sadadream.domain.User;
 import com.sadadream.domain.UserRepository;
+import com.sadadream.dto.SessionResponseData;
 import com.sadadream.errors.InvalidTokenException;
 import com.sadadream.errors.LoginFailException;
+import com.sadadream.security.AdaptiveBCryptPasswordEncoder;
+import com.sadadream.security.PasswordHashingExecutor;
+import com.sadadream.security.UserAuthentication;
 import com.sadadream.utils.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class AuthenticationServiceTest {
     private static final String SECRET = "12345678901234567890123456789012";
 
     private static final String VALID_TOKEN = "eyJhbGciOiJIUzI1NiJ9." +
         "eyJ1c2VySWQiOjF9.ZZ3CUl0jxeLGvQ1Js5nG2Ty5qGTlqai5ubDMXZOdaDk";
-    private static final String INVALID_TOKEN = "eyJhbGciOiJIUzI1NiJ9." +
-        "eyJ1c2VySWQiOjF9.ZZ3CUl0jxeLGvQ1Js5nG2Ty5qGTlqai5ubDMXZOdaD0";
 
     private AuthenticationService authenticationService;
 
+    private JwtUtil jwtUtil;
+
     private final UserRepository userRepository = mock(UserRepository.class);
     private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+
+    private TokenRevocationService tokenRevocationService;
+    private final PasswordHashingExecutor passwordHashingExecutor =
+        new PasswordHashingExecutor(new SimpleMeterRegistry(), 1, 4);
 
     @BeforeEach
     void setUp() {
-        JwtUtil jwtUtil = new JwtUtil(SECRET);
+        jwtUtil = new JwtUtil(SECRET);
         PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, jwtUtil);
 
         authenticationService = new AuthenticationService(
-            userRepository, roleRepository, jwtUtil, passwordEncoder);
+            userRepository, roleRepository, jwtUtil, passwordEncoder, tokenRevocationService,
+            passwordHashingExecutor);
 
         User user = User.builder()
             .id(1L)
@@ -53,6 +78,8 @@ class AuthenticationServiceTest {
 
         given(userRepository.findByEmail("tester@example.com"))
             .willReturn(Optional.of(user));
+        given(userRepository.findByIdAndDeletedIsFalse(1L))
+            .willReturn(Optional.of(user));
 
         given(roleRepository.findAllByUserId(1L))
             .willReturn(Arrays.asList(new Role("USER")));
@@ -60,17 +87,51 @@ class AuthenticationServiceTest {
             .willReturn(Arrays.asList(new Role("USER"), new Role("ADMIN")));
     }
 
-    @DisplayName("올바른 아이디와 패스워드로 로그인을 했을 때 성공한다.")
+    @DisplayName("올바른 아이디와 패스워드로 로그인을 했을 때 성공하며, 토큰에 권한이 담긴다.")
     @Test
     void loginWithRightEmailAndPassword() {
-        String accessToken = authenticationService.login(
+        SessionResponseData session = authenticationService.login(
                 "tester@example.com", "valid_password");
 
-        assertThat(accessToken).isEqualTo(VALID_TOKEN);
+        Claims claims = jwtUtil.decode(session.getAccessToken());
+        assertThat(claims.get("userId", Long.class)).isEqualTo(1L);
+        assertThat(claims.get("roles", String.class)).isEqualTo("USER");
+        assertThat(claims.getIssuedAt()).isNotNull();
+        assertThat(claims.getExpiration()).isNotNull();
+
+        Claims refreshClaims = jwtUtil.decode(session.getRefreshToken());
+        assertThat(refreshClaims.get(JwtUtil.SESSION_ID, String.class))
+            .isEqualTo(claims.get(JwtUtil.SESSION_ID, String.class));
 
         verify(userRepository).findByEmail("tester@example.com");
     }
 
+    @DisplayName("저장된 해시의 비용이 현재 비용과 다르면, 로그인할 때 비밀번호를 다시 해시해서 저장한다.")
+    @Test
+    void loginRehashesPasswordWithDifferentStrength() {
+        User user = User.builder()
+            .id(1L)
+            .email("old@example.com")
+            .build();
+        user.changePassword("valid_password", new BCryptPasswordEncoder(4));
+
+        given(userRepository.findByEmail("old@example.com"))
+            .willReturn(Optional.of(user));
+
+        AuthenticationService adaptiveService = new AuthenticationService(userRepository,
+            roleRepository, jwtUtil, new AdaptiveBCryptPasswordEncoder(5), tokenRevocationService,
+            passwordHashingExecutor);
+
+        adaptiveService.login("old@example.com", "valid_password");
+
+        assertThat(user.getPassword()).startsWith("$2a$05$");
+        verify(userRepository).save(user);
+
+        adaptiveService.login("old@example.com", "valid_password");
+
+        verify(userRepository, times(1)).save(user);
+    }
+
     @DisplayName("잘못된 이메일로 로그인을 시도 했을 때 예외가 발생한다.")
     @Test
     void loginWithWrongEmail() {
@@ -91,20 +152,114 @@ class AuthenticationServiceTest {
         verify(userRepository).findByEmail("tester@example.com");
     }
 
-    @DisplayName("특정 유저의 유효한 액세스 토큰을 파싱하면, 해당 유저의 정보를 반환한다.")
+    @DisplayName("권한이 담긴 토큰으로 인증하면, 저장소를 조회하지 않고 토큰의 권한으로 인증 정보를 만든다.")
     @Test
-    void parseTokenWithValidToken() {
-        Long userId = authenticationService.parseToken(VALID_TOKEN);
+    void authenticate() {
+        UserAuthentication authentication = authenticationService.authenticate(
+            jwtUtil.encode(1004L, List.of("USER", "ADMIN"), jwtUtil.newSessionId()));
 
-        assertThat(userId).isEqualTo(1L);
+        assertThat(authentication.getUserId()).isEqualTo(1004L);
+        assertThat(authentication.getAuthorities())
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly("USER", "ADMIN");
+
+        verify(roleRepository, never()).findAllByUserId(1004L);
     }
 
-    @DisplayName("유효하지 않은 형식의 토큰을 파싱하면, 예외가 발생한다.")
+    @DisplayName("만료 시각이 없는 이전 형식의 토큰으로는 인증할 수 없다.")
     @Test
-    void parseTokenWithInvalidToken() {
-        assertThatThrownBy(
-                () -> authenticationService.parseToken(INVALID_TOKEN)
-        ).isInstanceOf(InvalidTokenException.class);
+    void authenticateWithLegacyToken() {
+        assertThatThrownBy(() -> authenticationService.authenticate(VALID_TOKEN))
+            .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("리프레시 토큰으로는 인증할 수 없다.")
+    @Test
+    void authenticateWithRefreshToken() {
+        SessionResponseData session = authenticationService.login(
+            "tester@example.com", "valid_password");
+
+        assertThatThrownBy(() -> authenticationService.authenticate(session.getRefreshToken()))
+            .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("폐기된 사용자의 토큰으로는 인증할 수 없다.")
+    @Test
+    void authenticateWithRevokedUser() {
+        String accessToken = jwtUtil.encode(1L, List.of("USER"), jwtUtil.newSessionId());
+
+        tokenRevocationService.revokeUser(1L);
+
+        assertThatThrownBy(() -> authenticationService.authenticate(accessToken))
+            .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("리프레시 토큰으로 갱신하면 새 토큰을 발급하고, 사용한 리프레시 토큰과 이전 액세스 토큰은 폐기된다.")
+    @Test
+    void refresh() {
+        SessionResponseData session = authenticationService.login(
+            "tester@example.com", "valid_password");
+
+        SessionResponseData refreshed = authenticationService.refresh(session.getRefreshToken());
+
+        assertThat(authenticationService.authenticate(refreshed.getAccessToken()).getUserId())
+            .isEqualTo(1L);
+        assertThatThrownBy(() -> authenticationService.authenticate(session.getAccessToken()))
+            .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> authenticationService.refresh(session.getRefreshToken()))
+            .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("다른 요청이 먼저 같은 세션을 폐기했다면, 갱신할 수 없다.")
+    @Test
+    void refreshRevokedConcurrently() {
+        SessionResponseData session = authenticationService.login(
+            "tester@example.com", "valid_password");
+
+        willThrow(new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", new SQLException(),
+                "revoked_token_token_key_idx")))
+            .given(revokedTokenRepository).flush();
+
+        assertThatThrownBy(() -> authenticationService.refresh(session.getRefreshToken()))
+            .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("액세스 토큰으로는 갱신할 수 없다.")
+    @Test
+    void refreshWithAccessToken() {
+        SessionResponseData session = authenticationService.login(
+            "tester@example.com", "valid_password");
+
+        assertThatThrownBy(() -> authenticationService.refresh(session.getAccessToken()))
+            .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("삭제된 사용자의 리프레시 토큰으로는 갱신할 수 없다.")
+    @Test
+    void refreshWithDeletedUser() {
+        String refreshToken = jwtUtil.encodeRefreshToken(100L, jwtUtil.newSessionId());
+
+        given(userRepository.findByIdAndDeletedIsFalse(100L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authenticationService.refresh(refreshToken))
+            .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @DisplayName("로그아웃하면 같은 세션의 액세스 토큰과 리프레시 토큰을 모두 쓸 수 없다.")
+    @Test
+    void logout() {
+        SessionResponseData session = authenticationService.login(
+            "tester@example.com", "valid_password");
+
+        authenticationService.logout(
+            authenticationService.authenticate(session.getAccessToken()).getSessionId());
+
+        assertThatThrownBy(() -> authenticationService.authenticate(session.getAccessToken()))
+            .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> authenticationService.refresh(session.getRefreshToken()))
+            .isInstanceOf(InvalidTokenException.class);
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
     }
 
     @DisplayName("유저의 권한 정보를 조회하였을 때 유효한 권한 정보를 반환한다.")
@@ -0,0 +1,87 @@
+package com.sadadream.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import com.sadadream.domain.ProductFacetCount;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.dto.ProductFacetData;
+
+class ProductFacetServiceTest {
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private ProductFacetService productFacetService;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        productFacetService = new ProductFacetService(productRepository);
+
+        given(productRepository.countByFacets()).willReturn(List.of(
+            facetCount("신발", "나이키", 3L),
+            facetCount("신발", "아디다스", 2L)));
+
+        productFacetService.reconcile();
+    }
+
+    @DisplayName("시작할 때 저장소의 집계로 패싯 개수가 만들어진다.")
+    @Test
+    void reconcile() {
+        ProductFacetData facets = productFacetService.getFacets(null, "나이키", null);
+
+        assertThat(facets.getCategory()).isEqualTo(Map.of("신발", 3L));
+        assertThat(facets.getBrand()).isEqualTo(Map.of("나이키", 3L, "아디다스", 2L));
+        assertThat(facets.getCurrency()).isEqualTo(Map.of("KRW", 3L));
+    }
+
+    @DisplayName("상품 변경 이벤트가 발생하면 패싯 개수가 조정된다.")
+    @Test
+    void onProductChanged() {
+        ProductSnapshot before = ProductSnapshot.builder()
+            .id(1L).brand("나이키").category("신발").currency("KRW").build();
+        ProductSnapshot after = ProductSnapshot.builder()
+            .id(1L).brand("나이키").category("농구화").currency("KRW").build();
+
+        productFacetService.onProductChanged(new ProductChangedEvent(1L, before, after));
+        productFacetService.onProductChanged(new ProductChangedEvent(2L, null, after));
+
+        assertThat(productFacetService.getFacets(null, null, null).getCategory())
+            .isEqualTo(Map.of("신발", 4L, "농구화", 2L));
+
+        productFacetService.onProductChanged(new ProductChangedEvent(2L, after, null));
+
+        assertThat(productFacetService.getFacets(null, null, null).getCategory())
+            .isEqualTo(Map.of("신발", 4L, "농구화", 1L));
+    }
+
+    @DisplayName("주기적으로 저장소의 집계와 다시 맞춘다.")
+    @Test
+    void reconcileDrift() {
+        productFacetService.onProductChanged(new ProductChangedEvent(9L, null, ProductSnapshot.builder()
+            .id(9L).brand("구찌").category("가방").currency("KRW").build()));
+
+        productFacetService.reconcile();
+
+        assertThat(productFacetService.getFacets(null, null, null).getBrand())
+            .isEqualTo(Map.of("나이키", 3L, "아디다스", 2L));
+    }
+
+    private ProductFacetCount facetCount(String category, String brand, Long count) {
+        return projectionFactory.createProjection(ProductFacetCount.class, Map.of(
+            "category", category,
+            "brand", brand,
+            "currency", "KRW",
+            "count", count));
+    }
+}
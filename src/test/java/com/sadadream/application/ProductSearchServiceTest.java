@@ -0,0 +1,68 @@
+package com.sadadream.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.dto.ProductSummaryData;
+
+class ProductSearchServiceTest {
+    private ProductSearchService productSearchService;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        productSearchService = new ProductSearchService(productRepository);
+
+        given(productRepository.findAllByIdGreaterThanOrderByIdAsc(anyLong(), any(PageRequest.class)))
+                .willReturn(List.of());
+        given(productRepository.findAllByIdGreaterThanOrderByIdAsc(eq(0L), any(PageRequest.class)))
+                .willReturn(List.of(
+                    Product.builder().id(1L).brand("나이키").name("에어맥스").category("신발").build(),
+                    Product.builder().id(2L).brand("아디다스").name("슈팅스타").category("신발").build()));
+
+        productSearchService.rebuild();
+    }
+
+    @DisplayName("시작할 때 저장소의 상품으로 색인이 만들어진다.")
+    @Test
+    void rebuild() {
+        List<ProductSummaryData> products = productSearchService.search("나이키 신발", 20);
+
+        assertThat(products).extracting(ProductSummaryData::getId).containsExactly(1L, 2L);
+        assertThat(productSearchService.search("구찌", 20)).isEmpty();
+        assertThat(productSearchService.search(" ", 20)).isEmpty();
+    }
+
+    @DisplayName("상품 변경 이벤트가 발생하면 색인이 갱신된다.")
+    @Test
+    void onProductChanged() {
+        ProductSnapshot before = ProductSnapshot.builder()
+            .id(1L).brand("나이키").name("에어맥스").category("신발").build();
+        ProductSnapshot after = ProductSnapshot.builder()
+            .id(1L).brand("나이키").name("조던").category("농구화").build();
+
+        productSearchService.onProductChanged(new ProductChangedEvent(1L, before, after));
+
+        assertThat(productSearchService.search("에어맥스", 20)).isEmpty();
+        assertThat(productSearchService.search("조던", 20))
+            .extracting(ProductSummaryData::getName).containsExactly("조던");
+
+        productSearchService.onProductChanged(new ProductChangedEvent(2L, null, null));
+
+        assertThat(productSearchService.search("슈팅스타", 20)).isEmpty();
+    }
+}
@@ -0,0 +1,117 @@
+package com.sadadream.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.sadadream.config.CacheConfiguration;
+import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.domain.UserRepository;
+import com.sadadream.dto.ProductData;
+import com.sadadream.mappers.ProductMapper;
+
+@SpringJUnitConfig
+class ProductServiceCacheTest {
+
+    @Configuration
+    @Import({CacheConfiguration.class, ProductService.class})
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(ProductService.PRODUCT_CACHE);
+        }
+
+        @Bean
+        ProductMapper productMapper() {
+            return Mappers.getMapper(ProductMapper.class);
+        }
+    }
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private ProductRepository productRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(ProductService.PRODUCT_CACHE).clear();
+
+        given(productRepository.findById(1L)).will(invocation -> Optional.of(
+            Product.builder()
+                .id(1L)
+                .name("나이키 조던")
+                .brand("나이키")
+                .build()));
+    }
+
+    @DisplayName("같은 상품을 반복해서 조회하면, 저장소는 한 번만 조회된다.")
+    @Test
+    void getProductIsCached() {
+        productService.getProduct(1L);
+        productService.getProduct(1L);
+
+        verify(productRepository, times(1)).findById(1L);
+    }
+
+    @DisplayName("상품을 수정하거나 삭제하면, 캐시에서 제거되어 다시 저장소를 조회한다.")
+    @Test
+    void updateAndDeleteEvictProduct() {
+        productService.getProduct(1L);
+        productService.updateProduct(1L, ProductData.builder().name("에어맥스").build());
+        clearInvocations(productRepository);
+
+        productService.getProduct(1L);
+        verify(productRepository, times(1)).findById(1L);
+
+        productService.deleteProduct(1L);
+        clearInvocations(productRepository);
+
+        productService.getProduct(1L);
+        verify(productRepository, times(1)).findById(any(Long.class));
+    }
+
+    @DisplayName("여러 상품을 조회하면 상세 캐시에 없는 상품만 읽고, 읽은 상품은 상세 캐시에 채운다.")
+    @Test
+    void getProductsByIdsSharesCache() {
+        given(productRepository.findAllByIdIn(List.of(2L))).willReturn(List.of(
+            Product.builder()
+                .id(2L)
+                .name("에어맥스")
+                .brand("나이키")
+                .build()));
+
+        productService.getProduct(1L);
+        productService.getProductsByIds(List.of(1L, 2L));
+        productService.getProduct(2L);
+
+        verify(productRepository, times(1)).findAllByIdIn(List.of(2L));
+        verify(productRepository, never()).findById(2L);
+    }
+}
@@ -3,49 +3,87 @@ package com.sadadream.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
-import com.github.dozermapper.core.DozerBeanMapperBuilder;
-import com.github.dozermapper.core.Mapper;
 import com.sadadream.domain.Product;
 import com.sadadream.domain.ProductRepository;
+import com.sadadream.domain.ProductSummary;
+import com.sadadream.domain.ProductVersion;
 import com.sadadream.domain.User;
 import com.sadadream.domain.UserRepository;
+import com.sadadream.dto.ProductBatchData;
 import com.sadadream.dto.ProductData;
+import com.sadadream.dto.ProductListRequestData;
+import com.sadadream.dto.ProductPageData;
+import com.sadadream.dto.ProductResultData;
+import com.sadadream.dto.ProductSummaryData;
+import com.sadadream.dto.VersionData;
+import com.sadadream.errors.InvalidCursorException;
 import com.sadadream.errors.ProductNotFoundException;
+import com.sadadream.errors.UserNotFoundException;
+import com.sadadream.mappers.ProductMapper;
 
 class ProductServiceTest {
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
     private ProductService productService;
 
     private final ProductRepository productRepository = mock(ProductRepository.class);
     private final UserRepository userRepository = mock(UserRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
 
     @BeforeEach
     void setUp() {
-        Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+        ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
 
-        productService = new ProductService(mapper, productRepository, userRepository);
+        productService = new ProductService(
+            productMapper, productRepository, userRepository, eventPublisher,
+            new ConcurrentMapCacheManager(ProductService.PRODUCT_CACHE));
 
         Product product = Product.builder()
                 .id(1L)
                 .name("나이키 조던")
-                .price("1000")
+                .price(1000L)
                 .brand("나이키")
                 .currency("KRW")
                 .category("신발")
                 .build();
 
-        given(productRepository.findAll()).willReturn(List.of(product));
+        given(productRepository.findVersionsByIdGreaterThan(eq(0L), any(PageRequest.class)))
+                .willReturn(List.of(version(1L, null)));
+
+        given(productRepository.findSummariesByIdIn(List.of(1L)))
+                .willReturn(List.of(summary(1L, "나이키 조던")));
 
         given(productRepository.findById(1L)).willReturn(Optional.of(product));
 
@@ -73,29 +111,135 @@ class ProductServiceTest {
     @DisplayName("상품이 없는 상태에서 모든 상품 목록을 조회하면, 빈 리스트가 반환된다.")
     @Test
     void getProductsWithNoProduct() {
-        given(productRepository.findAll()).willReturn(List.of());
+        given(productRepository.findVersionsByIdGreaterThan(eq(0L), any(PageRequest.class)))
+                .willReturn(List.of());
+
+        ProductPageData page = productService.getProducts(listRequest(null, 20));
 
-        Assertions.assertThat(productService.getProducts()).isEmpty();
+        Assertions.assertThat(page.getProducts()).isEmpty();
+        Assertions.assertThat(page.getNextCursor()).isNull();
     }
 
     @DisplayName("특정 상품을 조회하였을 때 상품이 반환된다.")
     @Test
     void getProducts() {
-        List<Product> products = productService.getProducts();
+        List<ProductSummaryData> products = productService.getProducts(listRequest(null, 20)).getProducts();
 
         assertThat(products).isNotEmpty();
 
-        Product product = products.get(0);
+        ProductSummaryData product = products.get(0);
 
         assertThat(product.getName()).isEqualTo("나이키 조던");
         assertThat(product.getBrand()).isEqualTo("나이키");
         assertThat(product.getCategory()).isEqualTo("신발");
+        assertThat(product.getThumbnail()).isEqualTo("https://abc.jpg");
+    }
+
+    @DisplayName("응답 속성을 고르면, 그 속성에 필요한 컬럼만 조회한다.")
+    @Test
+    void getProductsWithFields() {
+        given(productRepository.findSummariesByIdIn(eq(List.of(1L)), anyCollection()))
+                .willReturn(List.of(summary(1L, "나이키 조던")));
+
+        ProductListRequestData listRequest = ProductListRequestData.builder()
+                .limit(20)
+                .fields(List.of("name", "thumbnail", "unknown"))
+                .build();
+        List<ProductSummaryData> products = productService.getProducts(listRequest).getProducts();
+
+        assertThat(products).extracting(ProductSummaryData::getName).containsExactly("나이키 조던");
+        verify(productRepository).findSummariesByIdIn(List.of(1L), Set.of("name", "imageLink"));
+        verify(productRepository, never()).findSummariesByIdIn(List.of(1L));
+    }
+
+    @DisplayName("요청한 개수보다 상품이 많으면, 마지막 상품을 가리키는 다음 커서가 반환된다.")
+    @Test
+    void getProductsWithNextPage() {
+        given(productRepository.findVersionsByIdGreaterThan(eq(0L), any(PageRequest.class)))
+                .willReturn(List.of(version(1L, null), version(2L, null), version(3L, null)));
+        given(productRepository.findSummariesByIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(summary(2L, "에어맥스"), summary(1L, "나이키 조던")));
+
+        ProductPageData page = productService.getProducts(listRequest(null, 2));
+
+        assertThat(page.getProducts()).extracting(ProductSummaryData::getId).containsExactly(1L, 2L);
+        assertThat(page.getNextCursor()).isEqualTo(ProductCursor.encode(2L));
+
+        productService.getProducts(listRequest(page.getNextCursor(), 2));
+
+        verify(productRepository).findVersionsByIdGreaterThan(2L, PageRequest.of(0, 3));
+    }
+
+    @DisplayName("가격순으로 조회하면, 다음 커서에 마지막 상품의 가격과 아이디가 담긴다.")
+    @Test
+    void getProductsSortedByPrice() {
+        ProductListRequestData listRequest = ProductListRequestData.builder()
+                .limit(1)
+                .sort("price")
+                .minPrice(500L)
+                .build();
+        given(productRepository.findVersionsOrderByPrice(
+            eq(500L), eq(Long.MAX_VALUE), eq(500L), eq(0L), any(PageRequest.class)))
+                .willReturn(List.of(version(1L, 1000L, null), version(2L, 1000L, null)));
+        given(productRepository.findSummariesByIdIn(List.of(1L)))
+                .willReturn(List.of(summary(1L, "나이키 조던")));
+
+        ProductPageData page = productService.getProducts(listRequest);
+
+        assertThat(page.getProducts()).extracting(ProductSummaryData::getPrice).containsExactly(1000L);
+        assertThat(page.getNextCursor()).isEqualTo(ProductCursor.encode(1000L, 1L));
+
+        listRequest.setAfter(page.getNextCursor());
+        productService.getProducts(listRequest);
+
+        verify(productRepository).findVersionsOrderByPrice(500L, Long.MAX_VALUE, 1000L, 1L, PageRequest.of(0, 2));
+    }
+
+    @DisplayName("가격 범위를 지정하면, 범위 안의 상품만 아이디 순으로 조회한다.")
+    @Test
+    void getProductsWithPriceRange() {
+        ProductListRequestData listRequest = ProductListRequestData.builder()
+                .maxPrice(2000L)
+                .build();
+
+        productService.getProducts(listRequest);
+
+        verify(productRepository).findVersionsByPriceBetweenAndIdGreaterThan(
+            0L, 2000L, 0L, PageRequest.of(0, 21));
+    }
+
+    @DisplayName("올바르지 않은 커서로 상품 목록을 조회하면 예외가 발생한다.")
+    @Test
+    void getProductsWithInvalidCursor() {
+        assertThatThrownBy(() -> productService.getProducts(listRequest("not-a-cursor", 20)))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @DisplayName("상품 목록 페이지의 버전은 페이지에 포함된 상품이 수정되면 바뀐다.")
+    @Test
+    void getProductsVersion() {
+        LocalDateTime updateAt = LocalDateTime.of(2021, 1, 1, 0, 0);
+        given(productRepository.findVersionsByIdGreaterThan(eq(0L), any(PageRequest.class)))
+                .willReturn(List.of(version(1L, updateAt), version(2L, updateAt)));
+
+        VersionData version = productService.getProductPage(listRequest(null, 20)).getVersion();
+
+        assertThat(productService.getProductPage(listRequest(null, 20)).getVersion().getVersion())
+            .isEqualTo(version.getVersion());
+        assertThat(version.getLastModified()).isEqualTo(VersionData.epochMillis(updateAt));
+
+        given(productRepository.findVersionsByIdGreaterThan(eq(0L), any(PageRequest.class)))
+                .willReturn(List.of(version(1L, updateAt), version(2L, updateAt.plusSeconds(1))));
+
+        VersionData changed = productService.getProductPage(listRequest(null, 20)).getVersion();
+        assertThat(changed.getVersion()).isNotEqualTo(version.getVersion());
+        assertThat(changed.getLastModified()).isEqualTo(VersionData.epochMillis(updateAt.plusSeconds(1)));
     }
 
     @DisplayName("존재하는 상품 아이디로 상품을 조회하면 해당 상품이 반환된다.")
     @Test
     void getProductWithExistedId() {
-        Product product = productService.getProduct(1L);
+        ProductResultData product = productService.getProduct(1L);
 
         assertThat(product).isNotNull();
         assertThat(product.getName()).isEqualTo("나이키 조던");
@@ -110,6 +254,36 @@ class ProductServiceTest {
                 .isInstanceOf(ProductNotFoundException.class);
     }
 
+    @DisplayName("여러 상품을 조회하면 한 번에 읽어 요청한 순서대로 반환하고, 없는 상품은 아이디로 알려준다.")
+    @Test
+    void getProductsByIds() {
+        given(productRepository.findAllByIdIn(anyList())).willReturn(List.of(
+            Product.builder().id(1L).name("나이키 조던").build(),
+            Product.builder().id(2L).name("에어맥스").build()));
+
+        ProductBatchData batch = productService.getProductsByIds(List.of(2L, 1000L, 1L, 2L));
+
+        assertThat(batch.getProducts()).extracting(ProductResultData::getId).containsExactly(2L, 1L);
+        assertThat(batch.getMissingIds()).containsExactly(1000L);
+        verify(productRepository).findAllByIdIn(List.of(2L, 1000L, 1L));
+    }
+
+    @DisplayName("여러 상품을 조회할 때 상세 캐시에 있는 상품은 저장소에서 다시 읽지 않는다.")
+    @Test
+    void getProductsByIdsUsesCache() {
+        given(productRepository.findAllByIdIn(anyList())).willReturn(List.of(
+            Product.builder().id(1L).name("나이키 조던").build()));
+        productService.getProductsByIds(List.of(1L));
+
+        given(productRepository.findAllByIdIn(List.of(2L))).willReturn(List.of(
+            Product.builder().id(2L).name("에어맥스").build()));
+        ProductBatchData batch = productService.getProductsByIds(List.of(2L, 1L));
+
+        assertThat(batch.getProducts()).extracting(ProductResultData::getName)
+            .containsExactly("에어맥스", "나이키 조던");
+        verify(productRepository).findAllByIdIn(List.of(2L));
+    }
+
     @DisplayName("상품을 생성하면, 해당 상품이 정상적으로 생성된다.")
     @Test
     void createProduct() {
@@ -124,7 +298,7 @@ class ProductServiceTest {
             .id(1L)
             .build();
 
-        Product product = productService.createProduct(productData, user.getId());
+        ProductResultData product = productService.createProduct(productData, user.getId());
 
         verify(productRepository).save(any(Product.class));
 
@@ -133,6 +307,53 @@ class ProductServiceTest {
         assertThat(product.getName()).isEqualTo("나이키 조던");
     }
 
+    @DisplayName("여러 상품을 한 번에 등록하면, 소유자를 조회하지 않고 모두 저장한 뒤 상품마다 변경 이벤트를 발행한다.")
+    @Test
+    void createProducts() {
+        given(userRepository.getOne(1L)).willReturn(User.builder().id(1L).build());
+        given(productRepository.saveAll(anyList())).will(invocation -> invocation.getArgument(0));
+
+        List<ProductResultData> products = productService.createProducts(List.of(
+            ProductData.builder().brand("나이키").name("에어맥스").currency("KRW").build(),
+            ProductData.builder().brand("나이키").name("조던").currency("KRW").build()), 1L);
+
+        assertThat(products).extracting(ProductResultData::getName).containsExactly("에어맥스", "조던");
+
+        ArgumentCaptor<List<Product>> saved = ArgumentCaptor.forClass(List.class);
+        verify(productRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).allMatch(product -> product.getUser().getId().equals(1L));
+
+        verify(userRepository, never()).findById(1L);
+        verify(productRepository).flush();
+        verify(eventPublisher, times(2)).publishEvent(any(ProductChangedEvent.class));
+    }
+
+    @DisplayName("존재하지 않는 소유자로 여러 상품을 등록하면 예외가 발생한다.")
+    @Test
+    void createProductsWithNotExistedUser() {
+        given(userRepository.getOne(1000L)).willReturn(User.builder().id(1000L).build());
+        given(productRepository.saveAll(anyList())).will(invocation -> invocation.getArgument(0));
+        willThrow(integrityViolation("product_user_id_fk")).given(productRepository).flush();
+
+        assertThatThrownBy(() -> productService.createProducts(List.of(
+            ProductData.builder().brand("나이키").name("에어맥스").currency("KRW").build()), 1000L))
+                .isInstanceOf(UserNotFoundException.class);
+
+        verify(eventPublisher, never()).publishEvent(any(ProductChangedEvent.class));
+    }
+
+    @DisplayName("여러 상품을 등록하다 소유자 외래 키가 아닌 무결성 위반이 발생하면 그대로 던진다.")
+    @Test
+    void createProductsWithOtherIntegrityViolation() {
+        given(userRepository.getOne(1L)).willReturn(User.builder().id(1L).build());
+        given(productRepository.saveAll(anyList())).will(invocation -> invocation.getArgument(0));
+        willThrow(integrityViolation("product_pkey")).given(productRepository).flush();
+
+        assertThatThrownBy(() -> productService.createProducts(List.of(
+            ProductData.builder().brand("나이키").name("에어맥스").currency("KRW").build()), 1L))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @DisplayName("존재하는 상품 아이디로, 업데이트를 하면 상품 정보가 갱신된다.")
     @Test
     void updateProductWithExistedId() {
@@ -143,12 +364,18 @@ class ProductServiceTest {
             .name("슈팅스타")
             .build();
 
-        Product product = productService.updateProduct(1L, productData);
+        ProductResultData product = productService.updateProduct(1L, productData);
 
         assertThat(product.getId()).isEqualTo(1L);
         assertThat(product.getCurrency()).isEqualTo("KRW");
         assertThat(product.getCategory()).isEqualTo("신발");
         assertThat(product.getName()).isEqualTo("슈팅스타");
+
+        ArgumentCaptor<ProductChangedEvent> event = ArgumentCaptor.forClass(ProductChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+
+        assertThat(event.getValue().getBefore().getName()).isEqualTo("나이키 조던");
+        assertThat(event.getValue().getAfter().getName()).isEqualTo("슈팅스타");
     }
 
     @DisplayName("존재하지 않는 상품 아이디로, 상품 정보를 갱신하면, 예외가 발생한다.")
@@ -171,6 +398,12 @@ class ProductServiceTest {
         productService.deleteProduct(1L);
 
         verify(productRepository).delete(any(Product.class));
+
+        ArgumentCaptor<ProductChangedEvent> event = ArgumentCaptor.forClass(ProductChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+
+        assertThat(event.getValue().getProductId()).isEqualTo(1L);
+        assertThat(event.getValue().getAfter()).isNull();
     }
 
     @DisplayName("존재하지 않는 상품 삭제를 시도하면 예외가 발생한다.")
@@ -179,4 +412,39 @@ class ProductServiceTest {
         assertThatThrownBy(() -> productService.deleteProduct(1000L))
                 .isInstanceOf(ProductNotFoundException.class);
     }
+
+    private ProductSummary summary(Long id, String name) {
+        return projectionFactory.createProjection(ProductSummary.class, Map.of(
+            "id", id,
+            "name", name,
+            "brand", "나이키",
+            "price", 1000L,
+            "currency", "KRW",
+            "category", "신발",
+            "imageLink", List.of("https://abc.jpg", "https://def.jpg")));
+    }
+
+    private ProductListRequestData listRequest(String after, int limit) {
+        return ProductListRequestData.builder()
+                .after(after)
+                .limit(limit)
+                .build();
+    }
+
+    private DataIntegrityViolationException integrityViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute batch",
+            new ConstraintViolationException("could not execute batch", new SQLException(), constraintName));
+    }
+
+    private ProductVersion version(Long id, LocalDateTime updateAt) {
+        return version(id, 1000L, updateAt);
+    }
+
+    private ProductVersion version(Long id, Long price, LocalDateTime updateAt) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("price", price);
+        values.put("updateAt", updateAt);
+        return projectionFactory.createProjection(ProductVersion.class, values);
+    }
 }
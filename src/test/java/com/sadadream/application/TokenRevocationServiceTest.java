@@ -0,0 +1,128 @@
+package com.sadadream.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sadadream.domain.RevokedToken;
+import com.sadadream.domain.RevokedTokenRepository;
+import com.sadadream.errors.InvalidTokenException;
+import com.sadadream.utils.JwtUtil;
+
+class TokenRevocationServiceTest {
+    private static final Instant NOW = Instant.parse("2021-01-01T00:00:00Z");
+    private static final LocalDateTime LOCAL_NOW = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+    private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository,
+            new JwtUtil("12345678901234567890123456789012"), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @DisplayName("세션을 폐기하면 저장하고 바로 폐기된 것으로 판단한다.")
+    @Test
+    void revokeSession() {
+        tokenRevocationService.revokeSession("session-1");
+
+        assertThat(tokenRevocationService.isSessionRevoked("session-1")).isTrue();
+        assertThat(tokenRevocationService.isSessionRevoked("session-2")).isFalse();
+        assertThat(tokenRevocationService.isUserRevoked(1L)).isFalse();
+
+        ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getTokenKey()).isEqualTo("session:session-1");
+        assertThat(captor.getValue().getExpiresAt()).isEqualTo(LOCAL_NOW.plusDays(14));
+    }
+
+    @DisplayName("사용자는 액세스 토큰이 만료되는 시각까지만 폐기해 둔다.")
+    @Test
+    void revokeUser() {
+        tokenRevocationService.revokeUser(1L);
+
+        assertThat(tokenRevocationService.isUserRevoked(1L)).isTrue();
+
+        ArgumentCaptor<RevokedToken> captor = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getExpiresAt()).isEqualTo(LOCAL_NOW.plusMinutes(15));
+    }
+
+    @DisplayName("다른 인스턴스에서 폐기한 항목을 마지막으로 읽은 시각 이후부터 읽어 온다.")
+    @Test
+    void reload() {
+        given(revokedTokenRepository.findTokenKeysByRevokedAtAfter(LOCAL_NOW.minusSeconds(30)))
+            .willReturn(List.of("session:session-1", "user:2"));
+
+        tokenRevocationService.reload();
+
+        assertThat(tokenRevocationService.isSessionRevoked("session-1")).isTrue();
+        assertThat(tokenRevocationService.isUserRevoked(2L)).isTrue();
+    }
+
+    @DisplayName("다시 만들면 만료된 항목을 지우고 남은 항목만 기억한다.")
+    @Test
+    void rebuild() {
+        tokenRevocationService.revokeSession("expired");
+        given(revokedTokenRepository.findTokenKeysByExpiresAtAfter(LOCAL_NOW))
+            .willReturn(List.of("session:session-1"));
+
+        tokenRevocationService.rebuild();
+
+        verify(revokedTokenRepository).deleteByExpiresAtBefore(LOCAL_NOW);
+        assertThat(tokenRevocationService.isSessionRevoked("session-1")).isTrue();
+        assertThat(tokenRevocationService.isSessionRevoked("expired")).isFalse();
+    }
+
+    @DisplayName("이미 폐기된 세션을 다시 폐기하면, 유일 인덱스 위반으로 실패한다.")
+    @Test
+    void revokeSessionTwice() {
+        willThrow(new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", new SQLException(),
+                "revoked_token_token_key_idx")))
+            .given(revokedTokenRepository).flush();
+
+        assertThatThrownBy(() -> tokenRevocationService.revokeSession("session-1"))
+            .isInstanceOf(InvalidTokenException.class);
+        assertThat(tokenRevocationService.isSessionRevoked("session-1")).isFalse();
+    }
+
+    @DisplayName("트랜잭션 안에서 폐기하면, 커밋된 뒤에야 폐기된 것으로 판단한다.")
+    @Test
+    void revokeSessionInTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenRevocationService.revokeSession("session-1");
+
+            assertThat(tokenRevocationService.isSessionRevoked("session-1")).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+            assertThat(tokenRevocationService.isSessionRevoked("session-1")).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
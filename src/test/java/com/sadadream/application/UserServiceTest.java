@@ -4,20 +4,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import com.github.dozermapper.core.DozerBeanMapperBuilder;
-import com.github.dozermapper.core.Mapper;
 import com.sadadream.domain.Role;
 import com.sadadream.domain.RoleRepository;
 import com.sadadream.domain.User;
@@ -26,6 +29,10 @@ import com.sadadream.dto.UserModificationData;
 import com.sadadream.dto.UserRegistrationData;
 import com.sadadream.errors.UserEmailDuplicationException;
 import com.sadadream.errors.UserNotFoundException;
+import com.sadadream.mappers.UserMapper;
+import com.sadadream.security.PasswordHashingExecutor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class UserServiceTest {
     private static final String EXISTED_EMAIL_ADDRESS = "existed@example.com";
@@ -35,16 +42,17 @@ class UserServiceTest {
 
     private final UserRepository userRepository = mock(UserRepository.class);
     private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private final PasswordHashingExecutor passwordHashingExecutor =
+        new PasswordHashingExecutor(new SimpleMeterRegistry(), 1, 4);
 
     @BeforeEach
     void setUp() {
-        Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+        UserMapper userMapper = Mappers.getMapper(UserMapper.class);
         PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
-        userService = new UserService(mapper, userRepository, roleRepository, passwordEncoder);
-
-        given(userRepository.existsByEmail(EXISTED_EMAIL_ADDRESS))
-                .willReturn(true);
+        userService = new UserService(userMapper, userRepository, roleRepository, passwordEncoder,
+            tokenRevocationService, passwordHashingExecutor);
 
         given(userRepository.save(any(User.class))).will(invocation -> {
             User source = invocation.getArgument(0);
@@ -52,6 +60,7 @@ class UserServiceTest {
                     .id(13L)
                     .email(source.getEmail())
                     .name(source.getName())
+                    .password(source.getPassword())
                     .build();
         });
 
@@ -85,9 +94,11 @@ class UserServiceTest {
         assertThat(user.getId()).isEqualTo(13L);
         assertThat(user.getEmail()).isEqualTo("tester@example.com");
         assertThat(user.getName()).isEqualTo("박재성");
+        assertThat(user.getPassword()).startsWith("$2a$");
 
         verify(userRepository).save(any(User.class));
         verify(roleRepository).save(any(Role.class));
+        verify(userRepository).flush();
     }
 
     @DisplayName("중복된 이메일로 유저 생성 요청을 하면, 예외가 발생한다.")
@@ -99,10 +110,27 @@ class UserServiceTest {
                 .password("test")
                 .build();
 
+        willThrow(integrityViolation("user_email_idx"))
+                .given(userRepository).flush();
+
         assertThatThrownBy(() -> userService.registerUser(registrationData))
                 .isInstanceOf(UserEmailDuplicationException.class);
+    }
+
+    @DisplayName("이메일 중복이 아닌 무결성 위반으로 유저 생성이 실패하면, 그 예외를 그대로 던진다.")
+    @Test
+    void registerUserWithOtherIntegrityViolation() {
+        UserRegistrationData registrationData = UserRegistrationData.builder()
+                .email("new@example.com")
+                .name("Tester")
+                .password("test")
+                .build();
+
+        willThrow(integrityViolation("role_pkey"))
+                .given(userRepository).flush();
 
-        verify(userRepository).existsByEmail(EXISTED_EMAIL_ADDRESS);
+        assertThatThrownBy(() -> userService.registerUser(registrationData))
+                .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @DisplayName("존재하는 유저 아이디로, 수정을 요청하면 정상적으로 수정된다.")
@@ -176,6 +204,7 @@ class UserServiceTest {
         assertThat(user.isDeleted()).isTrue();
 
         verify(userRepository).findByIdAndDeletedIsFalse(1L);
+        verify(tokenRevocationService).revokeUser(1L);
     }
 
     @DisplayName("존재하지 않는 유저 아이디로 삭제를 시도하면 예외가 발생한다.")
@@ -195,4 +224,9 @@ class UserServiceTest {
 
         verify(userRepository).findByIdAndDeletedIsFalse(DELETED_USER_ID);
     }
+
+    private DataIntegrityViolationException integrityViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
 }
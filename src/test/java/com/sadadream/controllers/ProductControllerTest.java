@@ -1,19 +1,28 @@
 package com.sadadream.controllers;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,20 +31,44 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
 import com.sadadream.application.AuthenticationService;
+import com.sadadream.application.ProductFacetService;
+import com.sadadream.application.ProductPage;
+import com.sadadream.application.ProductSearchService;
 import com.sadadream.application.ProductService;
-import com.sadadream.domain.Product;
+import com.sadadream.config.MessageConverterConfiguration;
 import com.sadadream.domain.Role;
+import com.sadadream.dto.ProductBatchData;
 import com.sadadream.dto.ProductData;
+import com.sadadream.dto.ProductFacetData;
+import com.sadadream.dto.ProductListRequestData;
+import com.sadadream.dto.ProductPageData;
+import com.sadadream.dto.ProductResultData;
+import com.sadadream.dto.ProductSummaryData;
+import com.sadadream.dto.VersionData;
+import com.sadadream.errors.InvalidCursorException;
 import com.sadadream.errors.InvalidTokenException;
 import com.sadadream.errors.ProductNotFoundException;
+import com.sadadream.security.UserAuthentication;
 
 @WebMvcTest(ProductController.class)
+@Import(MessageConverterConfiguration.class)
 @MockBean(JpaMetamodelMappingContext.class)
 class ProductControllerTest {
+    private static final String PRODUCT_JSON_ETAG = "\"1-1609459200000-json\"";
+    private static final String PRODUCTS_VERSION = "3f2a";
+    private static final long PRODUCTS_LAST_MODIFIED = 1609459200000L;
+    private static final String PRODUCTS_JSON_ETAG = "\"3f2a-json\"";
+
     private static final String VALID_TOKEN = "eyJhbGciOiJIUzI1NiJ9." +
             "eyJ1c2VySWQiOjF9.ZZ3CUl0jxeLGvQ1Js5nG2Ty5qGTlqai5ubDMXZOdaDk";
     private static final String INVALID_TOKEN = "eyJhbGciOiJIUzI1NiJ9." +
@@ -44,26 +77,63 @@ class ProductControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private ProductSearchService productSearchService;
+
+    @MockBean
+    private ProductFacetService productFacetService;
+
     @MockBean
     private AuthenticationService authenticationService;
 
     @BeforeEach
     void setUp() {
 
-        Product product = Product.builder()
+        ProductResultData product = ProductResultData.builder()
                 .id(1L)
                 .brand("아디다스")
                 .category("신발")
                 .description("신발입니다.")
                 .currency("KRW")
                 .name("슈팅스타")
-                .price("50000")
+                .price(50000L)
+                .updateAt(LocalDateTime.of(2021, 1, 1, 0, 0))
+                .build();
+
+        ProductSummaryData summary = ProductSummaryData.builder()
+                .id(1L)
+                .brand("아디다스")
+                .category("신발")
+                .currency("KRW")
+                .name("슈팅스타")
+                .price(50000L)
                 .build();
 
-        given(productService.getProducts()).willReturn(List.of(product));
+        ProductPage page = new ProductPage(List.of(), "Mg", new VersionData(PRODUCTS_VERSION, PRODUCTS_LAST_MODIFIED));
+        given(productService.getProductPage(any(ProductListRequestData.class))).willReturn(page);
+        given(productService.getProducts(page, ProductListRequestData.builder().build()))
+                .willReturn(new ProductPageData(List.of(summary), "Mg"));
+
+        given(productService.getProductsByIds(List.of(1L, 1000L)))
+                .willReturn(new ProductBatchData(List.of(product), List.of(1000L)));
+
+        given(productSearchService.search("슈팅", 20)).willReturn(List.of(summary));
+
+        given(productFacetService.getFacets("신발", null, null))
+                .willReturn(ProductFacetData.builder()
+                    .category(Map.of("신발", 3L, "가방", 1L))
+                    .brand(Map.of("아디다스", 3L))
+                    .currency(Map.of("KRW", 3L))
+                    .build());
+
+        given(productService.getProductPage(ProductListRequestData.builder().after("invalid").build()))
+                .willThrow(new InvalidCursorException("invalid"));
 
         given(productService.getProduct(1L)).willReturn(product);
 
@@ -73,11 +143,23 @@ class ProductControllerTest {
         given(productService.createProduct(any(ProductData.class), any(Long.class)))
                 .willReturn(product);
 
+        given(productService.createProducts(anyList(), eq(1L))).will(invocation -> {
+            List<ProductData> productDataList = invocation.getArgument(0);
+            return productDataList.stream()
+                .map(productData -> ProductResultData.builder()
+                    .brand(productData.getBrand())
+                    .name(productData.getName())
+                    .currency(productData.getCurrency())
+                    .price(productData.getPrice())
+                    .build())
+                .collect(Collectors.toList());
+        });
+
         given(productService.updateProduct(eq(1L), any(ProductData.class)))
                 .will(invocation -> {
                     Long id = invocation.getArgument(0);
                     ProductData productData = invocation.getArgument(1);
-                    return Product.builder()
+                    return ProductResultData.builder()
                             .id(id)
                             .name(productData.getName())
                             .brand(productData.getBrand())
@@ -95,13 +177,11 @@ class ProductControllerTest {
         given(productService.deleteProduct(1000L))
                 .willThrow(new ProductNotFoundException(1000L));
 
-        given(authenticationService.parseToken(VALID_TOKEN)).willReturn(1L);
+        given(authenticationService.authenticate(VALID_TOKEN))
+            .willReturn(new UserAuthentication(1L, Arrays.asList(new Role("USER"))));
 
-        given(authenticationService.parseToken(INVALID_TOKEN))
+        given(authenticationService.authenticate(INVALID_TOKEN))
                 .willThrow(new InvalidTokenException(INVALID_TOKEN));
-
-        given(authenticationService.roles(1L))
-            .willReturn(Arrays.asList(new Role("USER")));
     }
 
     @DisplayName("상품 리스트를 조회하였을 때 정상적으로 조회가 이루어진다.")
@@ -121,9 +201,180 @@ class ProductControllerTest {
             ))
             .andExpect(content().string(
                 containsString("\"currency\":\"KRW\"")
+            ))
+            .andExpect(content().string(
+                containsString("\"next_cursor\":\"Mg\"")
+            ));
+        verify(productService).getProducts(any(ProductPage.class), eq(ProductListRequestData.builder().build()));
+
+    }
+
+    @DisplayName("상품 목록 조회는 Authorization 헤더가 있어도 토큰을 해석하지 않는다.")
+    @Test
+    void listWithTokenSkipsAuthentication() throws Exception {
+        mockMvc.perform(
+            get("/products")
+                .accept(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + INVALID_TOKEN)
+        )
+            .andExpect(status().isOk());
+
+        verify(authenticationService, never()).authenticate(any());
+    }
+
+    @DisplayName("상품 리스트의 ETag 가 바뀌지 않았다면, 본문 없이 수정되지 않음(304)을 반환한다.")
+    @Test
+    void listWithMatchingETag() throws Exception {
+        mockMvc.perform(
+            get("/products")
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, PRODUCTS_JSON_ETAG)
+        )
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, PRODUCTS_JSON_ETAG));
+
+        verify(productService, never()).getProducts(any(ProductPage.class), any(ProductListRequestData.class));
+    }
+
+    @DisplayName("상품 리스트 응답의 Last-Modified 는 페이지 상품의 가장 늦은 수정 시각이다.")
+    @Test
+    void listHasLastModified() throws Exception {
+        mockMvc.perform(get("/products").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, PRODUCTS_JSON_ETAG))
+            .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, PRODUCTS_LAST_MODIFIED));
+    }
+
+    @DisplayName("상품 리스트를 CBOR 로 받은 적이 있으면, 그 ETag 로도 본문 없이 304 를 반환한다.")
+    @Test
+    void listWithMatchingCborETag() throws Exception {
+        mockMvc.perform(
+            get("/products")
+                .accept("application/cbor")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + PRODUCTS_VERSION + "-cbor\"")
+        )
+            .andExpect(status().isNotModified());
+
+        verify(productService, never()).getProducts(any(ProductPage.class), any(ProductListRequestData.class));
+    }
+
+    @DisplayName("검색어로 상품을 검색하면, 검색 결과가 반환된다.")
+    @Test
+    void search() throws Exception {
+        mockMvc.perform(
+            get("/products/search")
+                .param("q", "슈팅")
+                .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(content().string(
+                containsString("\"name\":\"슈팅스타\"")
+            ));
+
+        verify(productSearchService).search("슈팅", 20);
+    }
+
+    @DisplayName("패싯을 조회하면, 다른 패싯 필터를 적용한 값별 상품 수가 반환된다.")
+    @Test
+    void facets() throws Exception {
+        mockMvc.perform(
+            get("/products/facets")
+                .param("category", "신발")
+                .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(content().string(
+                containsString("\"brand\":{\"아디다스\":3}")
+            ));
+
+        verify(productFacetService).getFacets("신발", null, null);
+    }
+
+    @DisplayName("아이디 목록으로 상품을 조회하면, 찾은 상품과 없는 상품의 아이디가 함께 반환된다.")
+    @Test
+    void listByIds() throws Exception {
+        mockMvc.perform(
+            get("/products")
+                .param("ids", "1,1000")
+                .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(content().string(
+                containsString("\"name\":\"슈팅스타\"")
+            ))
+            .andExpect(content().string(
+                containsString("\"missing_ids\":[1000]")
+            ));
+
+        verify(productService, never()).getProductPage(any(ProductListRequestData.class));
+    }
+
+    @DisplayName("아이디 목록을 본문으로 보내도 토큰 없이 상품을 조회할 수 있다.")
+    @Test
+    void lookup() throws Exception {
+        mockMvc.perform(
+            post("/products/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[1,1000]}")
+                .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(content().string(
+                containsString("\"missing_ids\":[1000]")
             ));
-        verify(productService).getProducts();
 
+        verify(productService).getProductsByIds(List.of(1L, 1000L));
+    }
+
+    @DisplayName("빈 아이디 목록이나 너무 많은 아이디로 조회하면 잘못된 요청(400)이 반환된다.")
+    @Test
+    void lookupWithInvalidIds() throws Exception {
+        mockMvc.perform(
+            post("/products/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[]}")
+        )
+            .andExpect(status().isBadRequest());
+
+        String ids = LongStream.rangeClosed(1, 101)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.joining(","));
+        mockMvc.perform(
+            get("/products")
+                .param("ids", ids)
+        )
+            .andExpect(status().isBadRequest());
+
+        verify(productService, never()).getProductsByIds(anyList());
+    }
+
+    @DisplayName("올바르지 않은 커서로 상품 리스트를 조회하면 잘못된 요청을 반환한다.")
+    @Test
+    void listWithInvalidCursor() throws Exception {
+        mockMvc.perform(
+            get("/products")
+                .param("after", "invalid")
+                .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("지원하지 않는 정렬 기준이나 음수 가격으로 상품 리스트를 조회하면 잘못된 요청(400)이 반환된다.")
+    @Test
+    void listWithInvalidParameters() throws Exception {
+        mockMvc.perform(
+            get("/products")
+                .param("sort", "name")
+                .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+            get("/products")
+                .param("minPrice", "-1")
+                .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isBadRequest());
     }
 
     @DisplayName("존재하는 상품의 상세조회를 하면 정상적으로 조회가 이루어진다.")
@@ -148,6 +399,126 @@ class ProductControllerTest {
         verify(productService).getProduct(any(Long.class));
     }
 
+    @DisplayName("fields 로 속성을 고르면, 상세조회 응답에는 아이디와 고른 속성만 담긴다.")
+    @Test
+    void detailWithFields() throws Exception {
+        mockMvc.perform(
+            get("/products/1")
+                .param("fields", "name,price")
+                .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(content().string(
+                containsString("\"id\":1,\"name\":\"슈팅스타\",\"price\":50000")
+            ))
+            .andExpect(content().string(not(containsString("\"brand\""))))
+            .andExpect(content().string(not(containsString("\"description\""))))
+            .andExpect(content().string(containsString("all-products")));
+    }
+
+    @DisplayName("fields 로 속성을 고르면, 상품 목록의 상품마다 고른 속성만 담기고 다음 커서는 유지된다.")
+    @Test
+    void listWithFields() throws Exception {
+        ProductListRequestData listRequest = ProductListRequestData.builder()
+            .fields(List.of("name", "thumbnail"))
+            .build();
+        given(productService.getProducts(any(ProductPage.class), eq(listRequest)))
+            .willReturn(new ProductPageData(List.of(ProductSummaryData.builder()
+                .id(1L)
+                .name("슈팅스타")
+                .build()), "Mg"));
+
+        mockMvc.perform(
+            get("/products")
+                .param("fields", "name,thumbnail")
+                .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(content().string(
+                containsString("{\"id\":1,\"name\":\"슈팅스타\",\"thumbnail\":null}")
+            ))
+            .andExpect(content().string(containsString("\"next_cursor\":\"Mg\"")));
+    }
+
+    @DisplayName("CBOR 를 요청하면, JSON 과 같은 속성 이름으로 CBOR 로 인코딩된 상품이 반환된다.")
+    @Test
+    void detailInCbor() throws Exception {
+        byte[] body = mockMvc.perform(
+            get("/products/1")
+                .accept("application/cbor")
+        )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/cbor"))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode product = new ObjectMapper(new CBORFactory()).readTree(body);
+
+        assertThat(product.get("name").asText()).isEqualTo("슈팅스타");
+        assertThat(product.has("image_link")).isTrue();
+        assertThat(product.has("created_at")).isTrue();
+    }
+
+    @DisplayName("상품 상세조회 응답에는 ETag 와 Last-Modified 헤더가 포함된다.")
+    @Test
+    void detailHasValidators() throws Exception {
+        mockMvc.perform(get("/products/1").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, PRODUCT_JSON_ETAG))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(result -> assertThat(result.getResponse().getHeaders(HttpHeaders.VARY))
+                .contains(HttpHeaders.ACCEPT));
+    }
+
+    @DisplayName("Accept 에 따라 인코딩이 다르면, 같은 상품이라도 ETag 가 다르다.")
+    @Test
+    void detailETagPerMediaType() throws Exception {
+        String jsonETag = mockMvc.perform(get("/products/1").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cborETag = mockMvc.perform(get("/products/1").accept("application/cbor"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String smileETag = mockMvc.perform(get("/products/1").accept("application/x-jackson-smile"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(List.of(jsonETag, cborETag, smileETag)).doesNotHaveDuplicates().doesNotContainNull();
+    }
+
+    @DisplayName("JSON 응답의 ETag 로 CBOR 를 요청하면, 304 대신 CBOR 본문을 반환한다.")
+    @Test
+    void detailWithETagOfOtherMediaType() throws Exception {
+        mockMvc.perform(
+            get("/products/1")
+                .accept("application/cbor")
+                .header(HttpHeaders.IF_NONE_MATCH, PRODUCT_JSON_ETAG)
+        )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/cbor"));
+    }
+
+    @DisplayName("상품이 ETag 이후로 수정되지 않았다면, 본문 없이 304 를 반환한다.")
+    @Test
+    void detailWithMatchingETag() throws Exception {
+        mockMvc.perform(
+            get("/products/1")
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, PRODUCT_JSON_ETAG)
+        )
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @DisplayName("상품이 If-Modified-Since 이후로 수정되지 않았다면, 304 를 반환한다.")
+    @Test
+    void detailWithIfModifiedSince() throws Exception {
+        mockMvc.perform(
+            get("/products/1")
+                .header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 01 Jan 2021 00:00:00 GMT")
+        )
+            .andExpect(status().isNotModified());
+    }
+
     @DisplayName("존재하지 않은 상품을 조회하면 존재하지 않음을 반환한다.")
     @Test
     void detailWithNotExistedProduct() throws Exception {
@@ -155,6 +526,26 @@ class ProductControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @DisplayName("컨트롤러 밖에서도 상품 DTO 를 모든 속성으로 직렬화할 수 있다.")
+    @Test
+    void serializeOutsideController() throws Exception {
+        String json = objectMapper.writeValueAsString(ProductSummaryData.builder()
+            .id(1L)
+            .name("슈팅스타")
+            .build());
+
+        assertThat(json).contains("\"name\":\"슈팅스타\"", "\"thumbnail\":null");
+    }
+
+    @DisplayName("오류 응답에는 Vary: Accept 를 붙이지 않는다.")
+    @Test
+    void errorHasNoVaryAccept() throws Exception {
+        mockMvc.perform(get("/products/1000"))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertThat(result.getResponse().getHeaders(HttpHeaders.VARY))
+                    .doesNotContain(HttpHeaders.ACCEPT));
+    }
+
     @DisplayName("유효한 형식 및 토큰으로 상품 생성을 요청하면, 정상적으로 생성된다.")
     @Test
     void createWithValidAttributes() throws Exception {
@@ -212,6 +603,54 @@ class ProductControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    @DisplayName("여러 상품을 한 번에 생성 요청하면, 모두 생성된다.")
+    @Test
+    void createAllWithValidAttributes() throws Exception {
+        mockMvc.perform(
+            post("/products/1/bulk")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"products\": [\n"
+                    + "  {\"brand\": \"아디다스\", \"name\": \"슈팅스타\", \"currency\": \"KRW\", \"price\": 50000},\n"
+                    + "  {\"brand\": \"나이키\", \"name\": \"에어맥스\", \"currency\": \"KRW\", \"price\": 90000}\n"
+                    + "]}")
+                .header("Authorization", "Bearer " + VALID_TOKEN)
+        )
+            .andExpect(status().isCreated())
+            .andExpect(content().string(
+                containsString("\"name\":\"에어맥스\"")
+            ));
+
+        verify(productService).createProducts(anyList(), eq(1L));
+    }
+
+    @DisplayName("여러 상품 중 하나라도 유효하지 않으면, 아무것도 생성하지 않고 잘못된 요청을 반환한다.")
+    @Test
+    void createAllWithInvalidAttributes() throws Exception {
+        mockMvc.perform(
+            post("/products/1/bulk")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"products\": [\n"
+                    + "  {\"brand\": \"아디다스\", \"name\": \"슈팅스타\", \"currency\": \"KRW\", \"price\": 50000},\n"
+                    + "  {\"brand\": \"\", \"name\": \"에어맥스\", \"currency\": \"KRW\", \"price\": -1}\n"
+                    + "]}")
+                .header("Authorization", "Bearer " + VALID_TOKEN)
+        )
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+            post("/products/1/bulk")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"products\": []}")
+                .header("Authorization", "Bearer " + VALID_TOKEN)
+        )
+            .andExpect(status().isBadRequest());
+
+        verify(productService, never()).createProducts(anyList(), any(Long.class));
+    }
+
     @DisplayName("액세스 토큰 없이 상품 생성을 요청하면, 생성되지 않는다.")
     @Test
     void createWithoutAccessToken() throws Exception {
@@ -3,39 +3,75 @@ package com.sadadream.controllers;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.sadadream.application.AuthenticationService;
+import com.sadadream.domain.Role;
+import com.sadadream.dto.SessionResponseData;
+import com.sadadream.errors.InvalidTokenException;
 import com.sadadream.errors.LoginFailException;
+import com.sadadream.errors.LoginThrottledException;
+import com.sadadream.errors.PasswordHashingBusyException;
+import com.sadadream.security.ClientIpResolver;
+import com.sadadream.security.LoginThrottle;
+import com.sadadream.security.UserAuthentication;
 
 @WebMvcTest(SessionController.class)
+@Import(ClientIpResolver.class)
 @MockBean(JpaMetamodelMappingContext.class)
 class SessionControllerTest {
+    private static final String ACCESS_TOKEN = "eyJhbGciOiJIUzI1NiJ9.access.signature";
+    private static final String REFRESH_TOKEN = "eyJhbGciOiJIUzI1NiJ9.refresh.signature";
+    private static final String SESSION_ID = "session-1";
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private AuthenticationService authenticationService;
 
+    @MockBean
+    private LoginThrottle loginThrottle;
+
     @BeforeEach
     void setUp() {
         given(authenticationService.login("tester@example.com", "test"))
-                .willReturn("eyJhbGciOiJIUzI1NiJ9."
-                    + "eyJ1c2VySWQiOjF9."
-                    + "ZZ3CUl0jxeLGvQ1Js5nG2Ty5qGTlqai5ubDMXZOdaDk");
+                .willReturn(SessionResponseData.builder()
+                    .accessToken(ACCESS_TOKEN)
+                    .refreshToken(REFRESH_TOKEN)
+                    .build());
+
+        given(authenticationService.refresh(REFRESH_TOKEN))
+                .willReturn(SessionResponseData.builder()
+                    .accessToken(ACCESS_TOKEN + "2")
+                    .refreshToken(REFRESH_TOKEN + "2")
+                    .build());
+
+        given(authenticationService.refresh("expired"))
+                .willThrow(new InvalidTokenException("expired"));
+
+        given(authenticationService.authenticate(ACCESS_TOKEN))
+                .willReturn(new UserAuthentication(1L, SESSION_ID, List.of(new Role("USER"))));
 
         given(authenticationService.login("badguy@example.com", "test"))
                 .willThrow(new LoginFailException("badguy@example.com"));
@@ -55,7 +91,8 @@ class SessionControllerTest {
                         "\"password\":\"test\"}")
         )
                 .andExpect(status().isCreated())
-                .andExpect(content().string(containsString(".")));
+                .andExpect(content().string(containsString("\"access_token\":\"" + ACCESS_TOKEN)))
+                .andExpect(content().string(containsString("\"refresh_token\":\"" + REFRESH_TOKEN)));
 
         verify(authenticationService).login(anyString(), anyString());
     }
@@ -87,4 +124,119 @@ class SessionControllerTest {
                 .andExpect(status().isBadRequest());
         verify(authenticationService).login(anyString(), anyString());
     }
+
+    @DisplayName("비밀번호 해시 대기열이 가득 차면, 잠시 후 다시 시도하라고 응답한다.")
+    @Test
+    void loginWhenPasswordHashingIsBusy() throws Exception {
+        given(authenticationService.login("tester@example.com", "test"))
+                .willThrow(new PasswordHashingBusyException());
+
+        mockMvc.perform(
+                post("/session")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content("{\"email\":\"tester@example.com\"," +
+                        "\"password\":\"test\"}")
+        )
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @DisplayName("로그인 시도가 너무 많으면, 인증을 시도하지 않고 429를 응답한다.")
+    @Test
+    void loginWhenThrottled() throws Exception {
+        willThrow(new LoginThrottledException(12))
+                .given(loginThrottle).check("tester@example.com", "203.0.113.7");
+
+        mockMvc.perform(
+                post("/session")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .header("X-Forwarded-For", "198.51.100.9, 203.0.113.7")
+                    .content("{\"email\":\"tester@example.com\"," +
+                        "\"password\":\"test\"}")
+        )
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "12"));
+
+        verify(authenticationService, never()).login(anyString(), anyString());
+    }
+
+    @DisplayName("X-Real-IP 헤더가 있으면, 그 주소로 로그인 시도를 제한한다.")
+    @Test
+    void loginThrottledByRealIp() throws Exception {
+        mockMvc.perform(
+                post("/session")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .header("X-Real-IP", "198.51.100.4")
+                    .header("X-Forwarded-For", "203.0.113.7")
+                    .content("{\"email\":\"tester@example.com\"," +
+                        "\"password\":\"test\"}")
+        );
+
+        verify(loginThrottle).check("tester@example.com", "198.51.100.4");
+    }
+
+    @DisplayName("신뢰하는 프록시가 아닌 곳에서 온 요청은, 전달 헤더 대신 연결한 주소로 로그인 시도를 제한한다.")
+    @Test
+    void loginThrottledByRemoteAddrFromUntrustedPeer() throws Exception {
+        mockMvc.perform(
+                post("/session")
+                    .with(request -> {
+                        request.setRemoteAddr("203.0.113.50");
+                        return request;
+                    })
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .header("X-Real-IP", "198.51.100.4")
+                    .header("X-Forwarded-For", "198.51.100.4")
+                    .content("{\"email\":\"tester@example.com\"," +
+                        "\"password\":\"test\"}")
+        );
+
+        verify(loginThrottle).check("tester@example.com", "203.0.113.50");
+    }
+
+    @DisplayName("리프레시 토큰으로 갱신을 요청하면, 새 토큰을 발급한다.")
+    @Test
+    void refresh() throws Exception {
+        mockMvc.perform(
+                post("/session/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"refresh_token\":\"" + REFRESH_TOKEN + "\"}")
+        )
+                .andExpect(status().isCreated())
+                .andExpect(content().string(containsString("\"access_token\":\"" + ACCESS_TOKEN + "2")));
+    }
+
+    @DisplayName("유효하지 않은 리프레시 토큰으로 갱신을 요청하면, 401을 응답한다.")
+    @Test
+    void refreshWithInvalidToken() throws Exception {
+        mockMvc.perform(
+                post("/session/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"refresh_token\":\"expired\"}")
+        )
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("로그아웃하면, 현재 세션을 폐기한다.")
+    @Test
+    void logout() throws Exception {
+        mockMvc.perform(
+                delete("/session")
+                    .header("Authorization", "Bearer " + ACCESS_TOKEN)
+        )
+                .andExpect(status().isNoContent());
+
+        verify(authenticationService).logout(SESSION_ID);
+    }
+
+    @DisplayName("인증하지 않고 로그아웃하면, 실패한다.")
+    @Test
+    void logoutWithoutAuthentication() throws Exception {
+        mockMvc.perform(delete("/session"))
+                .andExpect(status().isUnauthorized());
+    }
 }
@@ -1,5 +1,6 @@
 package com.sadadream.controllers;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -19,20 +20,28 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
 import com.sadadream.application.AuthenticationService;
 import com.sadadream.application.UserService;
+import com.sadadream.config.MessageConverterConfiguration;
 import com.sadadream.domain.Role;
 import com.sadadream.domain.User;
 import com.sadadream.dto.UserModificationData;
 import com.sadadream.dto.UserRegistrationData;
 import com.sadadream.errors.UserNotFoundException;
+import com.sadadream.security.UserAuthentication;
 
 @WebMvcTest(UserController.class)
+@Import(MessageConverterConfiguration.class)
 @MockBean(JpaMetamodelMappingContext.class)
 class UserControllerTest {
 
@@ -108,16 +117,12 @@ class UserControllerTest {
         given(userService.deleteUser(100L))
             .willThrow(new UserNotFoundException(100L));
 
-        given(authenticationService.parseToken(MY_TOKEN)).willReturn(1L);
-        given(authenticationService.parseToken(OTHER_TOKEN)).willReturn(2L);
-        given(authenticationService.parseToken(ADMIN_TOKEN)).willReturn(1004L);
-
-        given(authenticationService.roles(1L))
-            .willReturn(Arrays.asList(new Role("USER")));
-        given(authenticationService.roles(2L))
-            .willReturn(Arrays.asList(new Role("USER")));
-        given(authenticationService.roles(1004L))
-            .willReturn(Arrays.asList(new Role("USER"), new Role("ADMIN")));
+        given(authenticationService.authenticate(MY_TOKEN))
+            .willReturn(new UserAuthentication(1L, Arrays.asList(new Role("USER"))));
+        given(authenticationService.authenticate(OTHER_TOKEN))
+            .willReturn(new UserAuthentication(2L, Arrays.asList(new Role("USER"))));
+        given(authenticationService.authenticate(ADMIN_TOKEN))
+            .willReturn(new UserAuthentication(1004L, Arrays.asList(new Role("USER"), new Role("ADMIN"))));
     }
 
     @DisplayName("올바른 형식으로 유저 생성을 요청하였을 떄, 유저 생성 및 올바른 상태코드가 반환된다")
@@ -181,6 +186,26 @@ class UserControllerTest {
             .updateUser(eq(1L), any(UserModificationData.class), eq(1L));
     }
 
+    @DisplayName("Smile 을 요청하면, 같은 DTO 가 Smile 로 인코딩되어 반환된다.")
+    @Test
+    void updateUserInSmile() throws Exception {
+        byte[] body = mockMvc.perform(
+            patch("/users/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/x-jackson-smile")
+                .content("{\"name\":\"NAME\"}")
+                .header("Authorization", "Bearer " + MY_TOKEN)
+        )
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-jackson-smile"))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode user = new ObjectMapper(new SmileFactory()).readTree(body);
+
+        assertThat(user.get("id").asLong()).isEqualTo(1L);
+        assertThat(user.get("name").asText()).isEqualTo("NAME");
+    }
+
     @DisplayName("유효하지 않은 형식으로 유저 수정 요청을 하면, 올바르지 않은 요청이라고 한다. (400)")
     @Test
     void updateUserWithInvalidAttributes() throws Exception {
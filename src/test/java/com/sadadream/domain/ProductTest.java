@@ -18,7 +18,7 @@ class ProductTest {
             .id(1L)
             .brand("나이키")
             .name("에어맥스")
-            .price("5000")
+            .price(5000L)
             .currency("KRW")
             .imageLink(List.of("https://abc.jpg", "https://def.jpg"))
             .description("나이키 신발입니다.")
@@ -32,7 +32,7 @@ class ProductTest {
         assertThat(product.getId()).isEqualTo(1L);
         assertThat(product.getBrand()).isEqualTo("나이키");
         assertThat(product.getName()).isEqualTo("에어맥스");
-        assertThat(product.getPrice()).isEqualTo("5000");
+        assertThat(product.getPrice()).isEqualTo(5000L);
         assertThat(product.getImageLink()).contains("https://abc.jpg", "https://def.jpg");
         assertThat(product.getDescription()).isEqualTo("나이키 신발입니다.");
         assertThat(product.getCategory()).isEqualTo("신발");
@@ -44,7 +44,7 @@ class ProductTest {
         product.changeWith(Product.builder()
                 .brand("아디다스")
                 .name("슈팅스타")
-                .price("109000")
+                .price(109000L)
                 .currency("KRW")
                 .imageLink(List.of("https://123.jpg", "https://456.jpg"))
                 .description("아디다스 신발입니다.")
@@ -53,7 +53,7 @@ class ProductTest {
 
         assertThat(product.getBrand()).isEqualTo("아디다스");
         assertThat(product.getName()).isEqualTo("슈팅스타");
-        assertThat(product.getPrice()).isEqualTo("109000");
+        assertThat(product.getPrice()).isEqualTo(109000L);
         assertThat(product.getImageLink()).isEqualTo(List.of("https://123.jpg", "https://456.jpg"));
         assertThat(product.getDescription()).isEqualTo("아디다스 신발입니다.");
         assertThat(product.getCategory()).isEqualTo("신발");
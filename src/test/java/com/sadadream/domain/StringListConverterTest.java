@@ -0,0 +1,30 @@
+package com.sadadream.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StringListConverterTest {
+    private final StringListConverter converter = new StringListConverter();
+
+    @DisplayName("문자열 목록을 JSON 배열로 저장하고 같은 목록으로 읽는다.")
+    @Test
+    void roundTrip() {
+        List<String> imageLink = List.of("https://abc.jpg", "https://def.jpg?q=\"x\"");
+
+        String column = converter.convertToDatabaseColumn(imageLink);
+
+        assertThat(column).isEqualTo("[\"https://abc.jpg\",\"https://def.jpg?q=\\\"x\\\"\"]");
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(imageLink);
+    }
+
+    @DisplayName("비어 있는 컬럼은 빈 목록으로 읽는다.")
+    @Test
+    void nullColumn() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+    }
+}
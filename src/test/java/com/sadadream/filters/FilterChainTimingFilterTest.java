@@ -0,0 +1,47 @@
+package com.sadadream.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.servlet.http.HttpServlet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FilterChainTimingFilterTest {
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("공개 경로와 보호 경로의 필터 체인 시간을 나누어 기록한다.")
+    @Test
+    void record() throws Exception {
+        perform("GET", "/products/1");
+        perform("POST", "/products/1");
+
+        assertThat(meterRegistry.get("http.server.security.filter-chain")
+            .tag("route", "public").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.server.security.filter-chain")
+            .tag("route", "protected").timer().count()).isEqualTo(1);
+    }
+
+    private void perform(String method, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+
+        new MockFilterChain(new HttpServlet() {},
+            FilterChainTimingFilter.start(),
+            FilterChainTimingFilter.stop(meterRegistry, new AntPathRequestMatcher("/products/**", "GET")))
+            .doFilter(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,125 @@
+package com.sadadream.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+            1000, 5000, "select lag from replica_lag", now::get);
+        routingDataSource.probeReplicaLag();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.clearClient();
+        new JdbcTemplate(primary).execute("drop all objects");
+        new JdbcTemplate(replica).execute("drop all objects");
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로, 나머지는 주 데이터베이스로 보낸다.")
+    @Test
+    void route() {
+        assertThat(currentDatabase(readWrite)).isEqualTo("primary");
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @DisplayName("복제 지연이 허용치를 넘은 복제본에는 읽기를 보내지 않는다.")
+    @Test
+    void routeWithLaggingReplica() {
+        new JdbcTemplate(replica).update("update replica_lag set lag = 5000");
+        routingDataSource.probeReplicaLag();
+
+        assertThat(currentDatabase(readOnly)).isEqualTo("primary");
+
+        new JdbcTemplate(replica).update("update replica_lag set lag = 10");
+        routingDataSource.probeReplicaLag();
+
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+    }
+
+    @DisplayName("쓰기를 커밋한 클라이언트의 읽기는 잠시 동안 주 데이터베이스로 보낸다.")
+    @Test
+    void routeAfterOwnWrite() {
+        ReplicaRoutingDataSource.setClient("first");
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update marker set name = name"));
+
+        assertThat(currentDatabase(readOnly)).isEqualTo("primary");
+
+        ReplicaRoutingDataSource.setClient("second");
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+
+        ReplicaRoutingDataSource.clearClient();
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+
+        ReplicaRoutingDataSource.setClient("first");
+        now.addAndGet(5000);
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+    }
+
+    @DisplayName("주 데이터베이스에서 읽도록 지정한 읽기 전용 트랜잭션은 복제본으로 보내지 않는다.")
+    @Test
+    void readFromPrimary() {
+        assertThat(ReplicaRoutingDataSource.readFromPrimary(() -> currentDatabase(readOnly)))
+            .isEqualTo("primary");
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+    }
+
+    private String currentDatabase(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from marker", String.class);
+    }
+
+    private DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table marker (name varchar(20))");
+        jdbcTemplate.update("insert into marker values (?)", name);
+        jdbcTemplate.execute("create table replica_lag (lag bigint)");
+        jdbcTemplate.update("insert into replica_lag values (0)");
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,43 @@
+package com.sadadream.mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import com.sadadream.domain.Product;
+import com.sadadream.dto.ProductData;
+
+class ProductMapperTest {
+    private final ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+
+    @DisplayName("상품 정보의 모든 항목이 같은 이름의 상품 항목으로 복사된다.")
+    @Test
+    void toProduct() {
+        List<String> imageLink = new ArrayList<>(List.of("https://abc.jpg"));
+        ProductData productData = ProductData.builder()
+            .brand("나이키")
+            .name("에어맥스")
+            .price(109000L)
+            .currency("KRW")
+            .imageLink(imageLink)
+            .description("운동화")
+            .category("신발")
+            .build();
+
+        Product product = productMapper.toProduct(productData);
+
+        assertThat(product.getId()).isNull();
+        assertThat(product.getBrand()).isEqualTo("나이키");
+        assertThat(product.getName()).isEqualTo("에어맥스");
+        assertThat(product.getPrice()).isEqualTo(109000L);
+        assertThat(product.getCurrency()).isEqualTo("KRW");
+        assertThat(product.getDescription()).isEqualTo("운동화");
+        assertThat(product.getCategory()).isEqualTo("신발");
+        assertThat(product.getImageLink()).containsExactly("https://abc.jpg").isNotSameAs(imageLink);
+    }
+}
@@ -0,0 +1,57 @@
+package com.sadadream.mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import com.sadadream.domain.User;
+import com.sadadream.dto.Gender;
+import com.sadadream.dto.UserModificationData;
+import com.sadadream.dto.UserRegistrationData;
+
+class UserMapperTest {
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    @DisplayName("회원 가입 정보의 모든 항목이 사용자로 복사되고, 나머지 항목은 기본값을 가진다.")
+    @Test
+    void toUserFromRegistrationData() {
+        User user = userMapper.toUser(UserRegistrationData.builder()
+            .email("tester@example.com")
+            .name("tester")
+            .password("password")
+            .phoneNumber("010-1234-5678")
+            .address("서울")
+            .gender(Gender.F)
+            .birthDate(LocalDate.of(2000, 1, 1))
+            .build());
+
+        assertThat(user.getEmail()).isEqualTo("tester@example.com");
+        assertThat(user.getName()).isEqualTo("tester");
+        assertThat(user.getPassword()).isEqualTo("password");
+        assertThat(user.getPhoneNumber()).isEqualTo("010-1234-5678");
+        assertThat(user.getAddress()).isEqualTo("서울");
+        assertThat(user.getGender()).isEqualTo(Gender.F);
+        assertThat(user.getBirthDate()).isEqualTo(LocalDate.of(2000, 1, 1));
+        assertThat(user.isDeleted()).isFalse();
+    }
+
+    @DisplayName("회원 수정 정보는 이름, 주소, 성별만 복사된다.")
+    @Test
+    void toUserFromModificationData() {
+        User user = userMapper.toUser(UserModificationData.builder()
+            .name("tester")
+            .address("서울")
+            .gender(Gender.M)
+            .build());
+
+        assertThat(user.getName()).isEqualTo("tester");
+        assertThat(user.getAddress()).isEqualTo("서울");
+        assertThat(user.getGender()).isEqualTo(Gender.M);
+        assertThat(user.getEmail()).isNull();
+        assertThat(user.getPassword()).isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.sadadream.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * V1 스키마에 기존 형식의 데이터를 넣은 뒤 이후 마이그레이션을 적용한 결과를 확인한다.
+ */
+class MigrationTest {
+    private DriverManagerDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+            "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        migrate("1");
+    }
+
+    @DisplayName("문자열 가격은 통화의 소수 자릿수만큼 곱한 최소 화폐 단위로 바뀐다.")
+    @Test
+    void priceInMinorUnits() {
+        insertProduct(1, "12.5", "USD");
+        insertProduct(2, "12", "USD");
+        insertProduct(3, "15000", "KRW");
+        insertProduct(4, "1.5", "KWD");
+        insertProduct(5, null, "KRW");
+
+        migrate("latest");
+
+        assertThat(price(1)).isEqualTo(1250L);
+        assertThat(price(2)).isEqualTo(1200L);
+        assertThat(price(3)).isEqualTo(15000L);
+        assertThat(price(4)).isEqualTo(1500L);
+        assertThat(price(5)).isNull();
+    }
+
+    @DisplayName("숫자로 읽을 수 없는 가격이 있으면 마이그레이션이 실패한다.")
+    @Test
+    void unparsablePrice() {
+        insertProduct(1, "₩15,000", "KRW");
+
+        assertThatThrownBy(() -> migrate("latest")).isInstanceOf(FlywayException.class);
+    }
+
+    @DisplayName("이미지 링크는 넣은 순서대로 JSON 배열 컬럼으로 옮겨진다.")
+    @Test
+    void imageLinksKeepOrder() {
+        insertProduct(1, "1000", "KRW");
+        for (String imageLink : List.of("https://c.jpg", "https://a.jpg", "https://b.jpg")) {
+            jdbcTemplate.update("insert into product_image_link (product_id, image_link) values (?, ?)",
+                1L, imageLink);
+        }
+
+        migrate("latest");
+
+        assertThat(jdbcTemplate.queryForObject("select image_link from product where id = 1", String.class))
+            .isEqualTo("[\"https://c.jpg\",\"https://a.jpg\",\"https://b.jpg\"]");
+    }
+
+    @DisplayName("상품 소유자 외래 키는 엔티티에 적은 이름으로 바뀐다.")
+    @Test
+    void productUserForeignKeyName() {
+        migrate("latest");
+
+        assertThat(jdbcTemplate.queryForList(
+            "select constraint_name from information_schema.constraints"
+                + " where table_name = 'product' and constraint_type = 'REFERENTIAL'", String.class))
+            .containsExactly("product_user_id_fk");
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration", "classpath:db/specific/h2")
+            .target(target)
+            .load()
+            .migrate();
+    }
+
+    private void insertProduct(long id, String price, String currency) {
+        jdbcTemplate.update("insert into product (id, name, price, currency) values (?, ?, ?, ?)",
+            id, "product" + id, price, currency);
+    }
+
+    private Long price(long id) {
+        return jdbcTemplate.queryForObject("select price from product where id = ?", Long.class, id);
+    }
+}
@@ -0,0 +1,95 @@
+package com.sadadream.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.sadadream.application.ProductService;
+import com.sadadream.domain.User;
+import com.sadadream.dto.ProductData;
+import com.sadadream.dto.ProductResultData;
+import com.sadadream.errors.UserNotFoundException;
+
+@DataJpaTest
+@Import(ProductService.class)
+@TestPropertySource(
+    locations = "classpath:application-test.yml",
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+class ProductBulkInsertStatementCountTest {
+    private static final int PRODUCT_COUNT = 1000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = entityManager.persistAndFlush(User.builder()
+            .email("seller@example.com")
+            .name("seller")
+            .password("password")
+            .build()).getId();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("여러 상품을 한 번에 등록하면, 상품과 이미지 링크가 JDBC 배치로 저장된다.")
+    @Test
+    void createProductsInBatches() {
+        List<ProductResultData> products = productService.createProducts(productDataList(), userId);
+
+        assertThat(products).hasSize(PRODUCT_COUNT);
+        assertThat(products).extracting(ProductResultData::getId).doesNotContainNull().doesNotHaveDuplicates();
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(PRODUCT_COUNT / 10);
+    }
+
+    @DisplayName("존재하지 않는 소유자로 여러 상품을 등록하면 예외가 발생한다.")
+    @Test
+    void createProductsWithNotExistedUser() {
+        assertThatThrownBy(() -> productService.createProducts(productDataList(), userId + 1000))
+            .isInstanceOf(UserNotFoundException.class);
+    }
+
+    private List<ProductData> productDataList() {
+        return IntStream.range(0, PRODUCT_COUNT)
+            .mapToObj(i -> ProductData.builder()
+                .brand("나이키")
+                .name("에어맥스 " + i)
+                .price(1000L * i)
+                .currency("KRW")
+                .imageLink(List.of("https://abc" + i + ".jpg", "https://def" + i + ".jpg"))
+                .category("신발")
+                .build())
+            .collect(Collectors.toList());
+    }
+}
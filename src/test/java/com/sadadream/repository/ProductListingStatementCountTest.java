@@ -0,0 +1,155 @@
+package com.sadadream.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.sadadream.application.ProductService;
+import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.dto.ProductBatchData;
+import com.sadadream.dto.ProductListRequestData;
+import com.sadadream.dto.ProductPageData;
+import com.sadadream.dto.ProductResultData;
+import com.sadadream.dto.ProductSummaryData;
+
+@DataJpaTest
+@Import(ProductService.class)
+@TestPropertySource(
+    locations = "classpath:application-test.yml",
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+class ProductListingStatementCountTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 30; i++) {
+            productRepository.save(Product.builder()
+                .brand("나이키")
+                .name("에어맥스 " + i)
+                .price((i % 7) * 1000L)
+                .currency("KRW")
+                .imageLink(List.of("https://abc" + i + ".jpg", "https://def" + i + ".jpg"))
+                .category("신발")
+                .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("상품 목록 한 페이지를 조회할 때, 상품 수와 관계없이 일정한 수의 쿼리만 실행된다.")
+    @Test
+    void listingUsesConstantNumberOfStatements() {
+        ProductPageData smallPage = productService.getProducts(listRequest(5));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+
+        ProductPageData largePage = productService.getProducts(listRequest(25));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        assertThat(smallPage.getProducts()).hasSize(5);
+        assertThat(largePage.getProducts()).hasSize(25);
+        assertThat(largePage.getProducts().get(0).getThumbnail()).isEqualTo("https://abc0.jpg");
+
+        assertThat(smallPageStatements).isEqualTo(2);
+        assertThat(largePageStatements).isEqualTo(2);
+    }
+
+    @DisplayName("응답 속성을 고르면, 고른 속성만 채워진 상품 목록이 조회된다.")
+    @Test
+    void listingWithFields() {
+        ProductListRequestData listRequest = ProductListRequestData.builder()
+            .limit(5)
+            .fields(List.of("name", "price"))
+            .build();
+
+        List<ProductSummaryData> products = productService.getProducts(listRequest).getProducts();
+
+        assertThat(products).hasSize(5);
+        assertThat(products.get(0).getName()).isEqualTo("에어맥스 0");
+        assertThat(products.get(0).getPrice()).isZero();
+        assertThat(products.get(0).getBrand()).isNull();
+        assertThat(products.get(0).getThumbnail()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("아이디 목록으로 여러 상품을 조회하면, 상품 수와 관계없이 IN 쿼리 한 번만 실행된다.")
+    @Test
+    void lookupByIdsUsesSingleStatement() {
+        List<Long> ids = productRepository.findAll().stream()
+            .map(Product::getId)
+            .collect(Collectors.toList());
+        statistics.clear();
+
+        List<Long> requested = new ArrayList<>(ids.subList(0, 20));
+        Collections.reverse(requested);
+        requested.add(-1L);
+
+        ProductBatchData batch = productService.getProductsByIds(requested);
+
+        assertThat(batch.getProducts()).extracting(ProductResultData::getId)
+            .containsExactlyElementsOf(requested.subList(0, 20));
+        assertThat(batch.getMissingIds()).containsExactly(-1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("가격순 목록도 다음 커서로 이어서 조회하면 빠짐없이 가격 오름차순으로 조회된다.")
+    @Test
+    void listingSortedByPrice() {
+        ProductListRequestData listRequest = ProductListRequestData.builder()
+            .limit(7)
+            .sort("price")
+            .build();
+
+        List<ProductSummaryData> products = new ArrayList<>();
+        ProductPageData page;
+        do {
+            page = productService.getProducts(listRequest);
+            products.addAll(page.getProducts());
+            listRequest.setAfter(page.getNextCursor());
+        } while (page.getNextCursor() != null);
+
+        assertThat(products).extracting(ProductSummaryData::getId).hasSize(30).doesNotHaveDuplicates();
+        assertThat(products).extracting(ProductSummaryData::getPrice).isSorted();
+    }
+
+    private ProductListRequestData listRequest(int limit) {
+        return ProductListRequestData.builder()
+            .limit(limit)
+            .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.sadadream.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sadadream.application.ProductService;
+import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.dto.ProductListRequestData;
+import com.sadadream.dto.ProductResultData;
+
+@DataJpaTest
+@Import(ProductService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(
+    locations = "classpath:application-test.yml",
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+class ProductReadOnlyTransactionTest {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+            .brand("나이키")
+            .name("에어맥스")
+            .price(109000L)
+            .currency("KRW")
+            .imageLink(List.of("https://abc.jpg", "https://def.jpg"))
+            .category("신발")
+            .build()).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.findAll().forEach(productRepository::delete);
+    }
+
+    @DisplayName("상품을 조회하면 읽기 전용 트랜잭션으로 실행되어 커밋할 때 flush 하지 않는다.")
+    @Test
+    void getProductWithoutFlush() {
+        ProductResultData product = productService.getProduct(productId);
+
+        assertThat(product.getImageLink()).hasSize(2);
+        assertThat(statistics.getFlushCount()).isZero();
+    }
+
+    @DisplayName("상품 목록 조회도 커밋할 때 flush 하지 않는다.")
+    @Test
+    void listingWithoutFlush() {
+        ProductListRequestData listRequest = ProductListRequestData.builder()
+            .limit(10)
+            .build();
+
+        assertThat(productService.getProducts(listRequest).getProducts()).hasSize(1);
+
+        assertThat(statistics.getFlushCount()).isZero();
+    }
+
+    @DisplayName("읽기 쓰기 트랜잭션 안에서 조회하면 불러온 상품을 변경 감지하려고 flush 한다.")
+    @Test
+    void getProductInReadWriteTransaction() {
+        new TransactionTemplate(transactionManager)
+            .executeWithoutResult(status -> productService.getProduct(productId));
+
+        assertThat(statistics.getFlushCount()).isEqualTo(1);
+    }
+}
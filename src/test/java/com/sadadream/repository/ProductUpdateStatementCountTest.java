@@ -0,0 +1,96 @@
+package com.sadadream.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.sadadream.application.ProductService;
+import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.dto.ProductData;
+import com.sadadream.dto.ProductResultData;
+
+@DataJpaTest
+@Import(ProductService.class)
+@TestPropertySource(
+    locations = "classpath:application-test.yml",
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+class ProductUpdateStatementCountTest {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+            .brand("나이키")
+            .name("에어맥스")
+            .price(109000L)
+            .currency("KRW")
+            .imageLink(List.of("https://abc.jpg", "https://def.jpg"))
+            .category("신발")
+            .build()).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("상품을 조회하면 이미지 링크까지 한 번의 쿼리로 읽는다.")
+    @Test
+    void getProduct() {
+        ProductResultData product = productService.getProduct(productId);
+
+        assertThat(product.getImageLink()).containsExactly("https://abc.jpg", "https://def.jpg");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("이미지 링크를 바꾸면 기존 링크를 지우고 다시 넣지 않고 상품 update 한 번만 실행된다.")
+    @Test
+    void updateImageLink() {
+        productService.updateProduct(productId, ProductData.builder()
+            .brand("나이키")
+            .name("에어맥스")
+            .price(109000L)
+            .currency("KRW")
+            .imageLink(List.of("https://ghi.jpg"))
+            .category("신발")
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+
+        assertThat(productRepository.findById(productId).get().getImageLink())
+            .containsExactly("https://ghi.jpg");
+    }
+}
@@ -0,0 +1,205 @@
+package com.sadadream.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.sadadream.domain.Product;
+import com.sadadream.domain.ProductRepository;
+import com.sadadream.domain.RevokedToken;
+import com.sadadream.domain.RevokedTokenRepository;
+import com.sadadream.domain.Role;
+import com.sadadream.domain.RoleRepository;
+import com.sadadream.domain.User;
+import com.sadadream.domain.UserRepository;
+
+/**
+ * 마이그레이션으로 만든 스키마에 데이터를 채운 뒤, 저장소 쿼리가 만드는 SQL 의 실행 계획에
+ * 테이블 전체 스캔이 없는지 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.hikari.connection-init-sql=select 1",
+    "spring.datasource.initialization-mode=never",
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.default_schema=",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.sadadream.repository.QueryPlanTest$RecordingStatementInspector"
+})
+class QueryPlanTest {
+    private static final int USER_COUNT = 200;
+    private static final int PRODUCT_COUNT = 500;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = IntStream.range(0, USER_COUNT)
+            .mapToObj(i -> userRepository.save(User.builder()
+                .email("user" + i + "@example.com")
+                .name("user" + i)
+                .password("password")
+                .build()))
+            .collect(Collectors.toList());
+
+        users.forEach(user -> roleRepository.save(new Role(user.getId(), "USER")));
+
+        productIds = IntStream.range(0, PRODUCT_COUNT)
+            .mapToObj(i -> productRepository.save(Product.builder()
+                .brand("brand" + i % 20)
+                .name("product" + i)
+                .price(1000L * (i % 100))
+                .currency(i % 2 == 0 ? "KRW" : "USD")
+                .category("category" + i % 10)
+                .imageLink(List.of("https://abc" + i + ".jpg"))
+                .user(users.get(i % USER_COUNT))
+                .build()).getId())
+            .collect(Collectors.toList());
+
+        LongStream.range(0, 100).forEach(i -> revokedTokenRepository.save(new RevokedToken(
+            "session:" + i, LocalDateTime.now().minusMinutes(i), LocalDateTime.now().plusMinutes(i))));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("이메일로 사용자를 찾을 때 유일 인덱스를 사용한다.")
+    @Test
+    void findByEmail() {
+        String plan = plan(() -> userRepository.findByEmail("user7@example.com"));
+
+        assertThat(plan).containsIgnoringCase("user_email_idx").doesNotContain("tableScan");
+    }
+
+    @DisplayName("아이디로 탈퇴하지 않은 사용자를 찾을 때 기본 키를 사용한다.")
+    @Test
+    void findUserById() {
+        String plan = plan(() -> userRepository.findByIdAndDeletedIsFalse(1L));
+
+        assertThat(plan).containsIgnoringCase("primary_key").doesNotContain("tableScan");
+    }
+
+    @DisplayName("사용자의 권한을 조회할 때 user_id 인덱스를 사용한다.")
+    @Test
+    void findRolesByUserId() {
+        String plan = plan(() -> roleRepository.findAllByUserId(1L));
+
+        assertThat(plan).containsIgnoringCase("role_user_id_idx").doesNotContain("tableScan");
+    }
+
+    @DisplayName("상품 목록 쿼리는 기본 키나 가격 인덱스를 사용한다.")
+    @Test
+    void productListing() {
+        PageRequest page = PageRequest.of(0, 20);
+
+        assertThat(plan(() -> productRepository.findVersionsByIdGreaterThan(0L, page)))
+            .containsIgnoringCase("primary_key").doesNotContain("tableScan");
+        assertThat(plan(() -> productRepository.findVersionsByPriceBetweenAndIdGreaterThan(
+            1000L, 5000L, 0L, page)))
+            .doesNotContain("tableScan");
+        assertThat(plan(() -> productRepository.findVersionsOrderByPrice(
+            1000L, 5000L, 1000L, 0L, page)))
+            .containsIgnoringCase("product_price_id_idx").doesNotContain("tableScan");
+        assertThat(plan(() -> productRepository.findAllByIdGreaterThanOrderByIdAsc(0L, page)))
+            .containsIgnoringCase("primary_key").doesNotContain("tableScan");
+    }
+
+    @DisplayName("상품과 상품 요약을 아이디로 조회할 때 기본 키를 사용한다.")
+    @Test
+    void productLookups() {
+        List<Long> ids = productIds.subList(0, 20);
+
+        assertThat(plan(() -> productRepository.findSummariesByIdIn(ids)))
+            .containsIgnoringCase("primary_key").doesNotContain("tableScan");
+        assertThat(plan(() -> productRepository.findSummariesByIdIn(ids, List.of("name", "price"))))
+            .containsIgnoringCase("primary_key").doesNotContain("tableScan");
+        assertThat(plan(() -> productRepository.findAllByIdIn(ids)))
+            .containsIgnoringCase("primary_key").doesNotContain("tableScan");
+    }
+
+    @DisplayName("패싯 집계는 테이블 대신 패싯 인덱스를 읽는다.")
+    @Test
+    void countByFacets() {
+        String plan = plan(() -> productRepository.countByFacets());
+
+        assertThat(plan).containsIgnoringCase("product_facets_idx");
+    }
+
+    @DisplayName("폐기된 토큰을 시각으로 조회할 때 인덱스를 사용한다.")
+    @Test
+    void revokedTokens() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(plan(() -> revokedTokenRepository.findTokenKeysByRevokedAtAfter(now)))
+            .containsIgnoringCase("revoked_token_revoked_at_idx").doesNotContain("tableScan");
+        assertThat(plan(() -> revokedTokenRepository.findTokenKeysByExpiresAtAfter(now)))
+            .containsIgnoringCase("revoked_token_expires_at_idx").doesNotContain("tableScan");
+    }
+
+    /**
+     * 저장소 쿼리가 실행한 첫 SQL 의 실행 계획을 반환한다. 파라미터는 null 로 채운다.
+     */
+    private String plan(Runnable query) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        query.run();
+
+        String sql = RecordingStatementInspector.STATEMENTS.get(0);
+        int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+
+        return jdbcTemplate.queryForObject("explain " + sql, String.class,
+            Collections.nCopies(parameterCount, null).toArray());
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
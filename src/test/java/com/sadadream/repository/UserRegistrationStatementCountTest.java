@@ -0,0 +1,79 @@
+package com.sadadream.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.sadadream.application.TokenRevocationService;
+import com.sadadream.application.UserService;
+import com.sadadream.domain.User;
+import com.sadadream.dto.UserRegistrationData;
+import com.sadadream.errors.UserEmailDuplicationException;
+import com.sadadream.security.PasswordHashingExecutor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@Import({UserService.class, PasswordHashingExecutor.class, SimpleMeterRegistry.class})
+@MockBean(TokenRevocationService.class)
+@TestPropertySource(
+    locations = "classpath:application-test.yml",
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+class UserRegistrationStatementCountTest {
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userService.registerUser(registrationData("first@example.com"));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("가입하면 중복 조회나 비밀번호 update 없이, 사용자와 권한 insert 만 실행된다.")
+    @Test
+    void registerUser() {
+        User user = userService.registerUser(registrationData("tester@example.com"));
+
+        assertThat(user.getId()).isNotNull();
+        assertThat(user.getPassword()).startsWith("$2a$");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    @DisplayName("이미 가입한 이메일로 가입하면, 유일 인덱스 위반이 중복 예외로 바뀐다.")
+    @Test
+    void registerUserWithDuplicatedEmail() {
+        assertThatThrownBy(() -> userService.registerUser(registrationData("first@example.com")))
+            .isInstanceOf(UserEmailDuplicationException.class);
+    }
+
+    private UserRegistrationData registrationData(String email) {
+        return UserRegistrationData.builder()
+            .email(email)
+            .name("tester")
+            .password("password")
+            .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.sadadream.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BigramTokenizerTest {
+
+    @DisplayName("한글은 두 글자씩 겹쳐서 자르고, 영문과 숫자는 단어 단위로 자른다.")
+    @Test
+    void tokenize() {
+        assertThat(BigramTokenizer.tokenize("나이키 에어맥스90"))
+            .containsExactly("나이", "이키", "에어", "어맥", "맥스", "90");
+
+        assertThat(BigramTokenizer.tokenize("Nike Air-Max"))
+            .containsExactly("nike", "air", "max");
+    }
+
+    @DisplayName("한 글자짜리 한글은 그대로 하나의 토큰이 된다.")
+    @Test
+    void tokenizeSingleCharacter() {
+        assertThat(BigramTokenizer.tokenize("옷 가방")).containsExactly("옷", "가방");
+    }
+
+    @DisplayName("비어있는 문자열은 토큰이 없다.")
+    @Test
+    void tokenizeEmpty() {
+        assertThat(BigramTokenizer.tokenize(null)).isEmpty();
+        assertThat(BigramTokenizer.tokenize(" ")).isEmpty();
+    }
+}
@@ -0,0 +1,50 @@
+package com.sadadream.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FacetCountsTest {
+    private FacetCounts counts;
+
+    @BeforeEach
+    void setUp() {
+        counts = new FacetCounts(2);
+
+        counts.add(List.of("신발", "나이키"), 3);
+        counts.add(List.of("신발", "아디다스"), 2);
+        counts.add(List.of("가방", "나이키"), 1);
+    }
+
+    @DisplayName("필터가 없으면 패싯별 전체 개수를 많은 순서로 반환한다.")
+    @Test
+    void count() {
+        List<Map<String, Long>> facets = counts.count(Arrays.asList(null, null));
+
+        assertThat(facets.get(0)).containsExactly(Map.entry("신발", 5L), Map.entry("가방", 1L));
+        assertThat(facets.get(1)).containsExactly(Map.entry("나이키", 4L), Map.entry("아디다스", 2L));
+    }
+
+    @DisplayName("각 패싯의 개수에는 나머지 패싯의 필터만 적용된다.")
+    @Test
+    void countWithFilters() {
+        List<Map<String, Long>> facets = counts.count(Arrays.asList("신발", "나이키"));
+
+        assertThat(facets.get(0)).containsExactly(Map.entry("신발", 3L), Map.entry("가방", 1L));
+        assertThat(facets.get(1)).containsExactly(Map.entry("나이키", 3L), Map.entry("아디다스", 2L));
+    }
+
+    @DisplayName("개수가 0 이 되면 해당 값은 더 이상 반환되지 않는다.")
+    @Test
+    void addNegative() {
+        counts.add(List.of("가방", "나이키"), -1);
+
+        assertThat(counts.count(Arrays.asList(null, null)).get(0)).containsOnlyKeys("신발");
+    }
+}
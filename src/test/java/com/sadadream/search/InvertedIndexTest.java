@@ -0,0 +1,79 @@
+package com.sadadream.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+    private InvertedIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex<>();
+
+        put(1L, "나이키 에어맥스 운동화");
+        put(2L, "아디다스 슈팅스타 운동화");
+        put(3L, "나이키 나이키 조던 농구화");
+    }
+
+    @DisplayName("검색어와 많이 겹치는 문서가 먼저 반환된다.")
+    @Test
+    void search() {
+        assertThat(search("나이키", 10))
+            .containsExactly("나이키 나이키 조던 농구화", "나이키 에어맥스 운동화");
+
+        assertThat(search("운동화", 10)).hasSize(2);
+        assertThat(search("구찌", 10)).isEmpty();
+    }
+
+    @DisplayName("요청한 개수만큼만 반환된다.")
+    @Test
+    void searchWithLimit() {
+        assertThat(search("나이키", 1)).containsExactly("나이키 나이키 조던 농구화");
+    }
+
+    @DisplayName("같은 키로 다시 색인하면 기존 문서를 대체하고, 삭제하면 검색되지 않는다.")
+    @Test
+    void putAndRemove() {
+        put(1L, "아식스 젤카야노 운동화");
+
+        assertThat(search("나이키", 10)).containsExactly("나이키 나이키 조던 농구화");
+        assertThat(search("아식스", 10)).containsExactly("아식스 젤카야노 운동화");
+
+        index.remove(3L);
+
+        assertThat(search("나이키", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @DisplayName("삭제된 문서가 많아져 압축한 뒤에도 검색 결과가 유지된다.")
+    @Test
+    void compaction() {
+        for (long key = 100; key < 3100; key++) {
+            put(key, "반팔 티셔츠 " + key);
+        }
+        for (long key = 100; key < 3100; key++) {
+            index.remove(key);
+        }
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(search("티셔츠", 10)).isEmpty();
+        assertThat(search("나이키", 10)).hasSize(2);
+
+        index.remove(1L);
+
+        assertThat(search("나이키", 10)).containsExactly("나이키 나이키 조던 농구화");
+    }
+
+    private void put(long key, String text) {
+        index.put(key, text, BigramTokenizer.tokenize(text));
+    }
+
+    private List<String> search(String query, int limit) {
+        return index.search(BigramTokenizer.tokenize(query), limit);
+    }
+}
@@ -0,0 +1,63 @@
+package com.sadadream.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class AdaptiveBCryptPasswordEncoderTest {
+    @DisplayName("해시에 현재 비용이 기록되고, 같은 비용의 해시는 다시 만들 필요가 없다.")
+    @Test
+    void encode() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+        String encoded = encoder.encode("password");
+
+        assertThat(encoded).startsWith("$2a$05$");
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @DisplayName("다른 비용으로 만든 해시도 검증하며, 더 약한 해시만 다시 만들어야 한다고 알려준다.")
+    @Test
+    void upgradeEncoding() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+        String weaker = new BCryptPasswordEncoder(4).encode("password");
+        String stronger = new BCryptPasswordEncoder(6).encode("password");
+
+        assertThat(encoder.matches("password", weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.matches("password", stronger)).isTrue();
+        assertThat(encoder.upgradeEncoding(stronger)).isFalse();
+        assertThat(encoder.upgradeEncoding("")).isFalse();
+    }
+
+    @DisplayName("측정으로 고른 비용보다 한 단계 낮은 해시는 다시 만들지 않는다.")
+    @Test
+    void upgradeEncodingAfterCalibration() {
+        AdaptiveBCryptPasswordEncoder encoder =
+            AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofMinutes(1), 4, 6);
+
+        assertThat(encoder.getStrength()).isEqualTo(6);
+        assertThat(encoder.getMinimumStrength()).isEqualTo(5);
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password"))).isFalse();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+    }
+
+    @DisplayName("목표 시간에 맞춰 비용을 고르되, 주어진 범위를 벗어나지 않는다.")
+    @Test
+    void calibrate() {
+        assertThat(AdaptiveBCryptPasswordEncoder.calibrate(Duration.ZERO, 4, 6).getStrength())
+            .isEqualTo(4);
+        assertThat(AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofMinutes(1), 4, 6).getStrength())
+            .isEqualTo(6);
+
+        assertThatThrownBy(() -> AdaptiveBCryptPasswordEncoder.calibrate(Duration.ZERO, 6, 4))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sadadream.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+    private ClientIpResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ClientIpResolver(new String[] {"127.0.0.1", "10.0.0.0/8"});
+    }
+
+    @DisplayName("신뢰하는 프록시에서 온 요청은 X-Real-IP 주소를 쓴다.")
+    @Test
+    void resolveRealIp() {
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Real-IP", "198.51.100.4");
+        request.addHeader("X-Forwarded-For", "203.0.113.7");
+
+        assertThat(resolver.resolve(request)).isEqualTo("198.51.100.4");
+    }
+
+    @DisplayName("X-Forwarded-For 는 오른쪽부터 신뢰하지 않는 첫 주소를 쓰므로, 클라이언트가 앞에 넣은 주소는 무시된다.")
+    @Test
+    void resolveForwardedFor() {
+        MockHttpServletRequest request = request("127.0.0.1");
+        request.addHeader("X-Forwarded-For", "198.51.100.9, 203.0.113.7, 10.0.0.5");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @DisplayName("신뢰하지 않는 곳에서 온 요청은 전달 헤더를 무시하고 연결한 주소를 쓴다.")
+    @Test
+    void resolveFromUntrustedPeer() {
+        MockHttpServletRequest request = request("203.0.113.50");
+        request.addHeader("X-Real-IP", "198.51.100.4");
+        request.addHeader("X-Forwarded-For", "198.51.100.4");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.50");
+    }
+
+    @DisplayName("전달된 주소가 모두 신뢰하는 프록시라면 연결한 주소를 쓴다.")
+    @Test
+    void resolveWithOnlyTrustedHops() {
+        MockHttpServletRequest request = request("127.0.0.1");
+        request.addHeader("X-Forwarded-For", "10.0.0.5, 10.0.0.6");
+
+        assertThat(resolver.resolve(request)).isEqualTo("127.0.0.1");
+    }
+
+    private MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
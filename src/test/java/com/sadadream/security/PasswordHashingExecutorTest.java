@@ -0,0 +1,90 @@
+package com.sadadream.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sadadream.errors.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingExecutorTest {
+    private MeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @DisplayName("작업 스레드에서 실행한 결과를 돌려주고 실행 시간을 기록한다.")
+    @Test
+    void submit() {
+        String result = executor.submit(() -> Thread.currentThread().getName()).join();
+
+        assertThat(result).startsWith("password-hashing-");
+        assertThat(meterRegistry.get("password.hashing.task.duration").timer().count())
+            .isEqualTo(1);
+    }
+
+    @DisplayName("작업이 끝날 때까지 기다렸다가, 작업이 던진 예외를 감싸지 않고 다시 던진다.")
+    @Test
+    void call() {
+        assertThat(executor.call(() -> Thread.currentThread().getName())).startsWith("password-hashing-");
+
+        assertThatThrownBy(() -> executor.call(() -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("대기열이 가득 차면 작업을 거절한다.")
+    @Test
+    void submitWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = executor.submit(() -> {
+            started.countDown();
+            return await();
+        });
+        started.await();
+        CompletableFuture<Boolean> queued = executor.submit(this::await);
+
+        assertThat(meterRegistry.get("password.hashing.queue.size").gauge().value())
+            .isEqualTo(1);
+
+        assertThatThrownBy(() -> executor.submit(this::await))
+            .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count())
+            .isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+    }
+
+    private boolean await() {
+        try {
+            release.await();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sadadream.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TimedPasswordEncoderTest {
+    private MeterRegistry meterRegistry;
+    private TimedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new TimedPasswordEncoder(new AdaptiveBCryptPasswordEncoder(4), meterRegistry);
+    }
+
+    @DisplayName("해시를 만들고 검증할 때마다 각각의 계산 시간을 기록한다.")
+    @Test
+    void recordHashing() {
+        String encoded = encoder.encode("password");
+
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "encode")
+            .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches")
+            .timer().count()).isEqualTo(2);
+    }
+
+    @DisplayName("다시 만들어야 하는지는 감싼 인코더가 판단한다.")
+    @Test
+    void upgradeEncoding() {
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password"))).isFalse();
+        assertThat(new TimedPasswordEncoder(new AdaptiveBCryptPasswordEncoder(6), meterRegistry)
+            .upgradeEncoding(new BCryptPasswordEncoder(5).encode("password"))).isTrue();
+    }
+}
@@ -0,0 +1,74 @@
+package com.sadadream.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketLimiterTest {
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    private TokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new TokenBucketLimiter(1024, 3, Duration.ofSeconds(3), now::get);
+    }
+
+    @DisplayName("버킷 크기만큼 허용한 뒤에는 토큰이 다시 찰 때까지 남은 시간을 알려준다.")
+    @Test
+    void tryAcquire() {
+        assertThat(limiter.tryAcquire("tester@example.com")).isZero();
+        assertThat(limiter.tryAcquire("tester@example.com")).isZero();
+        assertThat(limiter.tryAcquire("tester@example.com")).isZero();
+
+        assertThat(limiter.tryAcquire("tester@example.com")).isEqualTo(1000);
+
+        now.addAndGet(400);
+        assertThat(limiter.tryAcquire("tester@example.com")).isEqualTo(600);
+
+        now.addAndGet(600);
+        assertThat(limiter.tryAcquire("tester@example.com")).isZero();
+    }
+
+    @DisplayName("키마다 따로 제한한다.")
+    @Test
+    void tryAcquireWithOtherKeys() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("tester@example.com");
+        }
+
+        assertThat(limiter.tryAcquire("tester@example.com")).isPositive();
+        assertThat(limiter.tryAcquire("other@example.com")).isZero();
+    }
+
+    @DisplayName("키가 많아도 칸 수는 늘어나지 않고, 가득 찬 버킷은 비워진다.")
+    @Test
+    void evictIdle() {
+        for (int i = 0; i < 100_000; i++) {
+            limiter.tryAcquire("user" + i + "@example.com");
+        }
+        assertThat(limiter.size()).isEqualTo(1024);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("tester@example.com");
+        }
+
+        now.addAndGet(3000);
+        limiter.evictIdle();
+
+        assertThat(limiter.tryAcquire("tester@example.com")).isZero();
+    }
+
+    @DisplayName("칸 수는 2의 거듭제곱으로 올림한다.")
+    @Test
+    void size() {
+        assertThat(new TokenBucketLimiter(1, 1, Duration.ofSeconds(1), now::get).size()).isEqualTo(1);
+        assertThat(new TokenBucketLimiter(5, 1, Duration.ofSeconds(1), now::get).size()).isEqualTo(8);
+        assertThat(new TokenBucketLimiter(8, 1, Duration.ofSeconds(1), now::get).size()).isEqualTo(8);
+    }
+}
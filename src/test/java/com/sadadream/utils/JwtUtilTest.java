@@ -3,6 +3,10 @@ package com.sadadream.utils;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import com.sadadream.errors.InvalidTokenException;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 
 class JwtUtilTest {
     private static final String SECRET = "12345678901234567890123456789012";
@@ -28,11 +34,41 @@ class JwtUtilTest {
         jwtUtil = new JwtUtil(SECRET);
     }
 
-    @DisplayName("특정 유저에 대한 토큰을 발행하였을 때 유효한 토큰값을 반환한다.")
+    @DisplayName("권한과 함께 토큰을 발행하면, 권한 목록과 발행 시각이 담긴다.")
     @Test
-    void encode() {
-        String token = jwtUtil.encode(1L);
-        assertThat(token).isEqualTo(VALID_TOKEN);
+    void encodeWithRoles() {
+        Claims claims = jwtUtil.decode(jwtUtil.encode(1L, List.of("USER", "ADMIN"), "session-1"));
+
+        assertThat(claims.get("userId", Long.class)).isEqualTo(1L);
+        assertThat(claims.get("roles", String.class)).isEqualTo("USER,ADMIN");
+        assertThat(claims.getIssuedAt()).isNotNull();
+    }
+
+    @DisplayName("액세스 토큰은 짧게 유효하고, 리프레시 토큰과 세션 아이디를 공유한다.")
+    @Test
+    void encodeWithSession() {
+        AtomicLong now = new AtomicLong(1_600_000_000_000L);
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60, 3600, () -> new Date(now.get()));
+
+        String accessToken = jwtUtil.encode(1L, List.of("USER"), "session-1");
+        String refreshToken = jwtUtil.encodeRefreshToken(1L, "session-1");
+
+        Claims accessClaims = jwtUtil.decode(accessToken);
+        assertThat(accessClaims.get(JwtUtil.SESSION_ID, String.class)).isEqualTo("session-1");
+        assertThat(accessClaims.get(JwtUtil.TOKEN_TYPE)).isNull();
+        assertThat(accessClaims.getExpiration()).isEqualTo(new Date(now.get() + 60_000));
+
+        Claims refreshClaims = jwtUtil.decode(refreshToken);
+        assertThat(refreshClaims.get(JwtUtil.SESSION_ID, String.class)).isEqualTo("session-1");
+        assertThat(refreshClaims.get(JwtUtil.TOKEN_TYPE, String.class))
+                .isEqualTo(JwtUtil.REFRESH_TOKEN_TYPE);
+        assertThat(refreshClaims.getExpiration()).isEqualTo(new Date(now.get() + 3_600_000));
+
+        now.addAndGet(60_001);
+
+        assertThatThrownBy(() -> jwtUtil.decode(accessToken))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThat(jwtUtil.decode(refreshToken).get("userId", Long.class)).isEqualTo(1L);
     }
 
     @DisplayName("유효한 토큰의 경우, 설정한 값이 들어있다.")
@@ -43,6 +79,34 @@ class JwtUtilTest {
         assertThat(claims.get("userId", Long.class)).isEqualTo(1L);
     }
 
+    @DisplayName("같은 토큰을 다시 해석하면, 검증해 둔 클레임을 그대로 반환한다.")
+    @Test
+    void decodeWithVerifiedToken() {
+        Claims claims = jwtUtil.decode(VALID_TOKEN);
+
+        assertThat(jwtUtil.decode(VALID_TOKEN)).isSameAs(claims);
+    }
+
+    @DisplayName("만료 시각이 지난 토큰은 검증해 둔 적이 있더라도 예외가 발생한다.")
+    @Test
+    void decodeWithExpiredToken() {
+        AtomicLong now = new AtomicLong(1_600_000_000_000L);
+        JwtUtil jwtUtil = new JwtUtil(SECRET, () -> new Date(now.get()));
+
+        String token = Jwts.builder()
+                .claim("userId", 1L)
+                .setExpiration(new Date(now.get() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        assertThat(jwtUtil.decode(token).get("userId", Long.class)).isEqualTo(1L);
+
+        now.addAndGet(60_001);
+
+        assertThatThrownBy(() -> jwtUtil.decode(token))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
     @DisplayName("토큰 값이 유효하지 않은 토큰의 경우 예외가 발생한다.")
     @Test
     void decodeWithInvalidToken() {